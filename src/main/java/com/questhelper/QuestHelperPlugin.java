@@ -34,7 +34,9 @@ import com.questhelper.bank.banktab.PotionStorage;
 import com.questhelper.managers.*;
 import com.questhelper.panel.QuestHelperPanel;
 import com.questhelper.questhelpers.QuestHelper;
+import com.questhelper.questhelpers.QuestHelperDependencies;
 import com.questhelper.questinfo.QuestHelperQuest;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.item.ItemRequirement;
 import com.questhelper.runeliteobjects.Cheerer;
 import com.questhelper.runeliteobjects.GlobalFakeObjects;
@@ -46,6 +48,7 @@ import com.questhelper.util.worldmap.WorldMapAreaManager;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.*;
+import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.*;
 import net.runelite.api.gameval.InventoryID;
 import net.runelite.client.RuneLite;
@@ -178,8 +181,8 @@ public class QuestHelperPlugin extends Plugin
 	protected void startUp() throws IOException
 	{
 		questBankManager.startUp(injector, eventBus);
-		QuestContainerManager.getBankData().setSpecialMethodToObtainItems(() -> questBankManager.getBankItems().toArray(new Item[0]));
-		QuestContainerManager.getGroupStorageData().setSpecialMethodToObtainItems(() -> questBankManager.getGroupBankItems().toArray(new Item[0]));
+		QuestContainerManager.getBankData().setSnapshotSource(questBankManager::getBankSnapshot);
+		QuestContainerManager.getGroupStorageData().setSnapshotSource(questBankManager::getGroupBankSnapshot);
 		eventBus.register(worldMapAreaManager);
 
 		injector.injectMembers(playerStateManager);
@@ -209,6 +212,9 @@ public class QuestHelperPlugin extends Plugin
 		clientThread.invokeAtTickEnd(() -> {
 			if (client.getGameState() == GameState.LOGGED_IN)
 			{
+				NpcTracker.rebuild(client);
+				SceneObjectIndex.rebuild(client);
+				GroundItemIndex.rebuild(client);
 				questManager.setupRequirements();
 				questManager.setupOnLogin();
 				GlobalFakeObjects.createNpcs(client, runeliteObjectManager, configManager, config);
@@ -219,6 +225,7 @@ public class QuestHelperPlugin extends Plugin
 	@Override
 	protected void shutDown()
 	{
+		RuneliteConfigCache.flush(configManager);
 		runeliteObjectManager.shutDown();
 
 		eventBus.unregister(playerStateManager);
@@ -232,6 +239,22 @@ public class QuestHelperPlugin extends Plugin
 		questBankManager.shutDown(eventBus);
 
 		GlobalFakeObjects.setInitialized(false);
+		NpcTracker.clear();
+		SceneObjectIndex.clear();
+		GroundItemIndex.clear();
+	}
+
+	// Reset cached requirement results and record the player's movement before steps and requirements run their checks for the tick
+	@Subscribe(priority=1.0f)
+	public void onGameTickBeforeChecks(GameTick event)
+	{
+		RequirementCheckCache.clear();
+
+		Player player = client.getLocalPlayer();
+		if (player != null)
+		{
+			RequirementInputTracker.updatePlayerLocation(WorldPoint.fromLocalInstance(client, player.getLocalLocation()));
+		}
 	}
 
 	// Run our base game tick checks later than other Quest Helper checks
@@ -241,6 +264,7 @@ public class QuestHelperPlugin extends Plugin
 	{
 		questBankManager.loadInitialStateFromConfig(client);
 		questManager.updateQuestState();
+		RuneliteConfigCache.flush(configManager);
 	}
 
 	@Subscribe
@@ -249,9 +273,9 @@ public class QuestHelperPlugin extends Plugin
 		Item[] items = event.getItemContainer().getItems();
 		if (event.getContainerId() == InventoryID.BANK)
 		{
+			questBankManager.updateLocalBank(event.getItemContainer());
 			ItemAndLastUpdated bankData = QuestContainerManager.getBankData();
 			bankData.update(client.getTickCount(), items);
-			questBankManager.updateLocalBank(event.getItemContainer());
 		}
 
 		if (event.getContainerId() == InventoryID.INV)
@@ -275,9 +299,9 @@ public class QuestHelperPlugin extends Plugin
 		}
 		if (event.getContainerId() == InventoryID.INV_GROUP_TEMP)
 		{
+			questBankManager.updateLocalGroupBank(client, event.getItemContainer());
 			ItemAndLastUpdated groupBankData = QuestContainerManager.getGroupStorageData();
 			groupBankData.update(client.getTickCount(), items);
-			questBankManager.updateLocalGroupBank(client, event.getItemContainer());
 		}
 		if (event.getContainerId() == InventoryID.INV_PLAYER_TEMP)
 		{
@@ -289,9 +313,23 @@ public class QuestHelperPlugin extends Plugin
 	public void onGameStateChanged(final GameStateChanged event)
 	{
 		final GameState state = event.getGameState();
+		RequirementInputTracker.markAllChanged();
+
+		if (state == GameState.LOGIN_SCREEN || state == GameState.HOPPING)
+		{
+			NpcTracker.clear();
+		}
+
+		// Objects and ground items in the new scene are added by their spawn events as it loads
+		if (state == GameState.LOGIN_SCREEN || state == GameState.HOPPING || state == GameState.LOADING)
+		{
+			SceneObjectIndex.clear();
+			GroundItemIndex.clear();
+		}
 
 		if (state == GameState.LOGIN_SCREEN)
 		{
+			RuneliteConfigCache.flush(configManager);
 			questBankManager.saveBankToConfig();
 			SwingUtilities.invokeLater(() -> panel.refresh(Collections.emptyList(), true, new HashMap<>()));
 			questBankManager.emptyState();
@@ -318,11 +356,15 @@ public class QuestHelperPlugin extends Plugin
 	private void onRuneScapeProfileChanged(RuneScapeProfileChanged ev)
 	{
 		profileChanged = true;
+		RuneliteConfigCache.clear();
 	}
 
 	@Subscribe
 	public void onVarbitChanged(VarbitChanged event)
 	{
+		RequirementInputTracker.markVarChanged(event.getVarpId(), event.getVarbitId());
+		NpcTracker.markVarsChanged();
+
 		if (!(client.getGameState() == GameState.LOGGED_IN))
 		{
 			return;
@@ -343,6 +385,8 @@ public class QuestHelperPlugin extends Plugin
 	public void onConfigChanged(ConfigChanged event)
 	{
 		questManager.handleConfigChanged();
+		clientThread.invokeLater(RequirementCheckCache::clear);
+		clientThread.invokeLater(() -> RuneliteConfigCache.handleConfigChanged(configManager, event));
 
 		if (event.getGroup().equals(QuestHelperConfig.QUEST_BACKGROUND_GROUP))
 		{
@@ -412,6 +456,35 @@ public class QuestHelperPlugin extends Plugin
 				questOverlayManager.addDebugOverlay();
 			}
 		}
+		else if (developerMode && commandExecuted.getCommand().equals("qh-cache"))
+		{
+			// Allows comparing cached requirement results with fully re-checking them every time
+			if (commandExecuted.getArguments().length > 0)
+			{
+				RequirementCheckCache.setEnabled(commandExecuted.getArguments()[0].equals("enable"));
+			}
+			log.debug("Requirement check cache enabled: {}", RequirementCheckCache.isEnabled());
+		}
+		else if (developerMode && commandExecuted.getCommand().equals("qh-deps"))
+		{
+			// Reports what the selected helper, or with 'all' every helper, depends on
+			if (commandExecuted.getArguments().length > 0 && commandExecuted.getArguments()[0].equals("all"))
+			{
+				logAllHelperDependencies();
+			}
+			else if (getSelectedQuest() != null)
+			{
+				log.debug(getSelectedQuest().getDependencies().toString());
+			}
+		}
+		else if (developerMode && commandExecuted.getCommand().equals("qh-ready"))
+		{
+			// Lists which quests can be done with the items on the player or in the bank
+			Map<QuestItemReadinessEvaluator.Readiness, List<String>> questsByReadiness = new EnumMap<>(QuestItemReadinessEvaluator.Readiness.class);
+			questManager.getQuestItemReadiness().forEach((quest, readiness) ->
+				questsByReadiness.computeIfAbsent(readiness, r -> new ArrayList<>()).add(quest.getName()));
+			questsByReadiness.forEach((readiness, quests) -> log.debug("{}: {}", readiness, String.join(", ", quests)));
+		}
 		else if (developerMode && commandExecuted.getCommand().equals("reset-cooks-helper"))
 		{
 			String step = (String) (Arrays.stream(commandExecuted.getArguments()).toArray()[0]);
@@ -432,9 +505,32 @@ public class QuestHelperPlugin extends Plugin
 		}
 	}
 
+	private void logAllHelperDependencies()
+	{
+		List<QuestHelperDependencies> allDependencies = new ArrayList<>();
+		for (QuestHelperQuest quest : QuestHelperQuest.values())
+		{
+			QuestHelper questHelper = quest.getQuestHelper();
+			try
+			{
+				questHelper.init();
+				allDependencies.add(questHelper.getDependencies());
+			}
+			catch (Exception e)
+			{
+				log.debug("Unable to analyze {}", quest.getName(), e);
+			}
+		}
+
+		// Helpers which scan the scene or re-check the most requirements first
+		allDependencies.sort(Comparator.comparingInt(QuestHelperDependencies::getCostlyCount).reversed());
+		allDependencies.forEach(dependencies -> log.debug(dependencies.getSummary()));
+	}
+
 	@Subscribe(priority = 100)
 	private void onClientShutdown(ClientShutdown e)
 	{
+		RuneliteConfigCache.flush(configManager);
 		questBankManager.saveBankToConfig();
 	}
 
@@ -496,6 +592,8 @@ public class QuestHelperPlugin extends Plugin
 	@Subscribe
 	public void onChatMessage(ChatMessage chatMessage)
 	{
+		RequirementInputTracker.markChanged(RequirementInputs.Type.CHAT);
+
 		if (config.showFan() && chatMessage.getType() == ChatMessageType.GAMEMESSAGE)
 		{
 			if (chatMessage.getMessage().contains("Congratulations! Quest complete!") ||
@@ -515,6 +613,91 @@ public class QuestHelperPlugin extends Plugin
 		}
 	}
 
+	// Keep the NPC index up to date before any steps handle NPC events
+	@Subscribe(priority=1.0f)
+	public void onNpcSpawned(NpcSpawned event)
+	{
+		NpcTracker.addNpc(event.getNpc());
+		RequirementInputTracker.markNpcChanged(event.getNpc().getId());
+	}
+
+	@Subscribe(priority=1.0f)
+	public void onNpcDespawned(NpcDespawned event)
+	{
+		NpcTracker.removeNpc(event.getNpc());
+		RequirementInputTracker.markNpcChanged(event.getNpc().getId());
+	}
+
+	@Subscribe(priority=1.0f)
+	public void onNpcChanged(NpcChanged event)
+	{
+		NpcTracker.addNpc(event.getNpc());
+		RequirementInputTracker.markNpcChanged(event.getOld().getId());
+		RequirementInputTracker.markNpcChanged(event.getNpc().getId());
+	}
+
+	// Keep the object index up to date before any steps handle object events
+	@Subscribe(priority=1.0f)
+	public void onGameObjectSpawned(GameObjectSpawned event)
+	{
+		SceneObjectIndex.addObject(client, event.getGameObject());
+	}
+
+	@Subscribe(priority=1.0f)
+	public void onGameObjectDespawned(GameObjectDespawned event)
+	{
+		SceneObjectIndex.removeObject(event.getGameObject());
+	}
+
+	@Subscribe(priority=1.0f)
+	public void onGroundObjectSpawned(GroundObjectSpawned event)
+	{
+		SceneObjectIndex.addObject(client, event.getGroundObject());
+	}
+
+	@Subscribe(priority=1.0f)
+	public void onGroundObjectDespawned(GroundObjectDespawned event)
+	{
+		SceneObjectIndex.removeObject(event.getGroundObject());
+	}
+
+	@Subscribe(priority=1.0f)
+	public void onDecorativeObjectSpawned(DecorativeObjectSpawned event)
+	{
+		SceneObjectIndex.addObject(client, event.getDecorativeObject());
+	}
+
+	@Subscribe(priority=1.0f)
+	public void onDecorativeObjectDespawned(DecorativeObjectDespawned event)
+	{
+		SceneObjectIndex.removeObject(event.getDecorativeObject());
+	}
+
+	@Subscribe(priority=1.0f)
+	public void onWallObjectSpawned(WallObjectSpawned event)
+	{
+		SceneObjectIndex.addObject(client, event.getWallObject());
+	}
+
+	@Subscribe(priority=1.0f)
+	public void onWallObjectDespawned(WallObjectDespawned event)
+	{
+		SceneObjectIndex.removeObject(event.getWallObject());
+	}
+
+	// Keep the ground item index up to date before any steps handle item events
+	@Subscribe(priority=1.0f)
+	public void onItemSpawned(ItemSpawned event)
+	{
+		GroundItemIndex.addItem(event.getTile(), event.getItem());
+	}
+
+	@Subscribe(priority=1.0f)
+	public void onItemDespawned(ItemDespawned event)
+	{
+		GroundItemIndex.removeItem(event.getTile(), event.getItem());
+	}
+
 	public void displayPanel()
 	{
 		SwingUtilities.invokeLater(() -> {
@@ -29,6 +29,8 @@ import com.google.gson.JsonSyntaxException;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.questhelper.QuestHelperConfig;
+import com.questhelper.managers.RequirementInputTracker;
+import com.questhelper.requirements.RequirementInputs;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.Item;
@@ -36,7 +38,6 @@ import net.runelite.api.WorldType;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.config.RuneScapeProfileType;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.List;
@@ -51,11 +52,15 @@ public class QuestBank
 
 	private static final String CONFIG_GROUP = QuestHelperConfig.QUEST_HELPER_GROUP;
 
-	private List<Item> bankItems;
+	private QuestBankSnapshot snapshot;
 	private final QuestBankData questBankData;
 	private String rsProfileKey;
 	private RuneScapeProfileType worldType;
 
+	// The content last read from or written to config, used to skip writing an unchanged bank
+	private int[] savedIdAndQuantity;
+	private int savedHash;
+
 	public List<WorldType> worldTypes = Arrays.asList(WorldType.SEASONAL, WorldType.TOURNAMENT_WORLD,
 		WorldType.DEADMAN, WorldType.NOSAVE_MODE);
 
@@ -66,26 +71,29 @@ public class QuestBank
 		this.client = client;
 		this.gson = gson;
 		this.questBankData = new QuestBankData();
-		this.bankItems = new ArrayList<>();
+		this.snapshot = QuestBankSnapshot.EMPTY;
 	}
 
-	public List<Item> getBankItems()
+	public QuestBankSnapshot getSnapshot()
 	{
-		return bankItems;
+		return snapshot;
 	}
 
+	// The tracked container is updated afterwards by the caller, which marks the items which changed
 	public void updateLocalBank(Item[] items)
 	{
 		questBankData.set(items);
-		bankItems = questBankData.getAsList();
+		snapshot = questBankData.toSnapshot();
 	}
 
 	public void emptyState()
 	{
 		rsProfileKey = null;
 		worldType = null;
+		savedIdAndQuantity = null;
 		questBankData.setEmpty();
-		bankItems = new ArrayList<>();
+		snapshot = QuestBankSnapshot.EMPTY;
+		RequirementInputTracker.markChanged(RequirementInputs.Type.ITEM_CONTAINERS);
 	}
 
 	public void loadState()
@@ -110,18 +118,38 @@ public class QuestBank
 		rsProfileKey = configManager.getRSProfileKey();
 		worldType = RuneScapeProfileType.getCurrent(client);
 
-		String json = configManager.getRSProfileConfiguration(CONFIG_GROUP, getKey());
-		try
+		savedIdAndQuantity = null;
+		String value = configManager.getRSProfileConfiguration(CONFIG_GROUP, getKey());
+		if (QuestBankCodec.isEncoded(value))
 		{
-			questBankData.setIdAndQuantity(gson.fromJson(json, int[].class));
+			try
+			{
+				questBankData.setIdAndQuantity(QuestBankCodec.decode(value));
+				setSaved(questBankData.getIdAndQuantity());
+			}
+			catch (IllegalArgumentException err)
+			{
+				log.warn("Unable to decode saved bank", err);
+				questBankData.setIdAndQuantity(new int[0]);
+				saveBankToConfig();
+			}
 		}
-		catch (JsonSyntaxException err)
+		else
 		{
-			// Due to changing data format from list to array, need to handle for old users
-			questBankData.setIdAndQuantity(new int[0]);
-			saveBankToConfig();
+			// Banks saved before the compact format are stored as a JSON array, and are re-saved in the new format
+			try
+			{
+				questBankData.setIdAndQuantity(gson.fromJson(value, int[].class));
+			}
+			catch (JsonSyntaxException err)
+			{
+				// Due to changing data format from list to array, need to handle for old users
+				questBankData.setIdAndQuantity(new int[0]);
+				saveBankToConfig();
+			}
 		}
-		bankItems = questBankData.getAsList();
+		snapshot = questBankData.toSnapshot();
+		RequirementInputTracker.markChanged(RequirementInputs.Type.ITEM_CONTAINERS);
 	}
 
 	public void saveBankToConfig()
@@ -131,7 +159,30 @@ public class QuestBank
 			return;
 		}
 
-		configManager.setConfiguration(CONFIG_GROUP, rsProfileKey, getKey(), gson.toJson(questBankData.getIdAndQuantity()));
+		int[] idAndQuantity = questBankData.getIdAndQuantity();
+		if (idAndQuantity == null || isSaved(idAndQuantity))
+		{
+			return;
+		}
+
+		configManager.setConfiguration(CONFIG_GROUP, rsProfileKey, getKey(), QuestBankCodec.encode(idAndQuantity));
+		setSaved(idAndQuantity);
+	}
+
+	private void setSaved(int[] idAndQuantity)
+	{
+		savedIdAndQuantity = idAndQuantity;
+		savedHash = Arrays.hashCode(idAndQuantity);
+	}
+
+	private boolean isSaved(int[] idAndQuantity)
+	{
+		if (savedIdAndQuantity == null)
+		{
+			return false;
+		}
+		return savedIdAndQuantity == idAndQuantity
+			|| (savedHash == Arrays.hashCode(idAndQuantity) && Arrays.equals(savedIdAndQuantity, idAndQuantity));
 	}
 
 	private String getCurrentKey()
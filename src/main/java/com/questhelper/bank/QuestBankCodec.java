@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.bank;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.util.Base64;
+
+/**
+ * Encodes the id and quantity pairs of a {@link QuestBankData} compactly for storing in config.
+ * <p>
+ * The pairs are written as variable-length integers, with each id stored as the difference from the previous id.
+ * The bytes are stored as base64 after a prefix, which distinguishes the format from the JSON array used previously.
+ */
+class QuestBankCodec
+{
+	private static final String PREFIX = "v1:";
+
+	/**
+	 * @param idAndQuantity the pairs to encode, which end with an unused pair as in {@link QuestBankData}
+	 * @return the encoded pairs
+	 */
+	static String encode(int[] idAndQuantity)
+	{
+		int pairs = Math.max(0, (idAndQuantity.length - 1) / 2);
+		ByteArrayOutputStream out = new ByteArrayOutputStream(pairs * 4 + 5);
+		writeVarInt(out, pairs);
+
+		int previousId = 0;
+		for (int i = 0; i < pairs; i++)
+		{
+			int id = idAndQuantity[i * 2];
+			writeVarInt(out, zigZag(id - previousId));
+			writeVarInt(out, zigZag(idAndQuantity[(i * 2) + 1]));
+			previousId = id;
+		}
+
+		return PREFIX + Base64.getEncoder().encodeToString(out.toByteArray());
+	}
+
+	/**
+	 * @param value the value to check
+	 * @return true if the value was made by {@link #encode(int[])}
+	 */
+	static boolean isEncoded(@Nullable String value)
+	{
+		return value != null && value.startsWith(PREFIX);
+	}
+
+	/**
+	 * @param value a value made by {@link #encode(int[])}
+	 * @return the decoded pairs, ending with an unused pair as in {@link QuestBankData}
+	 * @throws IllegalArgumentException if the value is not validly encoded
+	 */
+	static int[] decode(String value)
+	{
+		byte[] bytes = Base64.getDecoder().decode(value.substring(PREFIX.length()));
+		int[] position = { 0 };
+
+		int pairs = readVarInt(bytes, position);
+		if (pairs < 0 || pairs > bytes.length)
+		{
+			throw new IllegalArgumentException("Invalid number of items: " + pairs);
+		}
+
+		int[] idAndQuantity = new int[(pairs + 1) * 2];
+		int previousId = 0;
+		for (int i = 0; i < pairs; i++)
+		{
+			int id = previousId + unZigZag(readVarInt(bytes, position));
+			idAndQuantity[i * 2] = id;
+			idAndQuantity[(i * 2) + 1] = unZigZag(readVarInt(bytes, position));
+			previousId = id;
+		}
+		return idAndQuantity;
+	}
+
+	private static int zigZag(int value)
+	{
+		return (value << 1) ^ (value >> 31);
+	}
+
+	private static int unZigZag(int value)
+	{
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static void writeVarInt(ByteArrayOutputStream out, int value)
+	{
+		while ((value & ~0x7F) != 0)
+		{
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	private static int readVarInt(byte[] bytes, int[] position)
+	{
+		int value = 0;
+		for (int shift = 0; shift < 35; shift += 7)
+		{
+			if (position[0] >= bytes.length)
+			{
+				throw new IllegalArgumentException("Unexpected end of data");
+			}
+			byte b = bytes[position[0]++];
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+			{
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Variable length integer is too long");
+	}
+}
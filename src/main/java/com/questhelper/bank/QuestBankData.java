@@ -27,7 +27,6 @@ package com.questhelper.bank;
 import lombok.Data;
 import net.runelite.api.Item;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -63,16 +62,14 @@ class QuestBankData
 		idAndQuantity = new int[0];
 	}
 
-	List<Item> getAsList()
+	QuestBankSnapshot toSnapshot()
 	{
-		List<Item> items = new ArrayList<>();
-
-		if (idAndQuantity == null) return items;
-
-		for (int i = 0; i < idAndQuantity.length - 2; i += 2)
+		if (idAndQuantity == null)
 		{
-			items.add(new Item(idAndQuantity[i], idAndQuantity[i+1]));
+			return QuestBankSnapshot.EMPTY;
 		}
-		return items;
+
+		// The array always ends with an unused pair
+		return new QuestBankSnapshot(idAndQuantity, Math.max(0, (idAndQuantity.length - 1) / 2));
 	}
 }
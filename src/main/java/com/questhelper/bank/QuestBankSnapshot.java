@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.bank;
+
+import lombok.Getter;
+import net.runelite.api.Item;
+
+/**
+ * An immutable view of the items in a {@link QuestBank}, stored as packed pairs of item id and quantity.
+ * <p>
+ * A new snapshot with a new version is made each time the bank changes, so a snapshot can be shared by reference,
+ * and a consumer can tell whether what it built from a snapshot is stale by comparing versions.
+ */
+public class QuestBankSnapshot
+{
+	public static final QuestBankSnapshot EMPTY = new QuestBankSnapshot(new int[0], 0);
+
+	private static int nextVersion = 0;
+
+	@Getter
+	private final int version;
+
+	// Never modified, as it may be shared with the QuestBankData it came from
+	private final int[] idAndQuantity;
+
+	@Getter
+	private final int size;
+
+	private Item[] items;
+
+	QuestBankSnapshot(int[] idAndQuantity, int size)
+	{
+		this.version = nextVersion();
+		this.idAndQuantity = idAndQuantity;
+		this.size = size;
+	}
+
+	private static synchronized int nextVersion()
+	{
+		return nextVersion++;
+	}
+
+	public int getId(int index)
+	{
+		return idAndQuantity[index * 2];
+	}
+
+	public int getQuantity(int index)
+	{
+		return idAndQuantity[(index * 2) + 1];
+	}
+
+	/**
+	 * Get the items in the snapshot. These are only created the first time they are needed, and are shared between
+	 * all callers, so should not be modified.
+	 *
+	 * @return the {@link Item}s in the snapshot
+	 */
+	public Item[] getItems()
+	{
+		if (items == null)
+		{
+			Item[] newItems = new Item[size];
+			for (int i = 0; i < size; i++)
+			{
+				newItems[i] = new Item(getId(i), getQuantity(i));
+			}
+			items = newItems;
+		}
+		return items;
+	}
+}
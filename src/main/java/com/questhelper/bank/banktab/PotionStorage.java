@@ -42,18 +42,7 @@ import net.runelite.client.plugins.bank.BankSearch;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
-class Potion
-{
-    EnumComposition potionEnum;
-    int itemId;
-    int doses;
-    int withdrawDoses;
-}
+import java.util.Arrays;
 
 @Singleton
 @RequiredArgsConstructor(onConstructor = @__(@Inject))
@@ -66,7 +55,18 @@ public class PotionStorage
     private final Client client;
     private final BankSearch bankSearch;
 
-    private Potion[] potions;
+    // The potion store enums don't change whilst the client is running, so are only read once
+    private int[] potionEnumIds;
+    private EnumComposition[] potionEnums;
+
+    // Indexed by position in the potion store, with the vials last. Potions not in the store have an item id of -1
+    private int[] itemIds;
+    private int[] quantities;
+
+    private Item[] items = new Item[0];
+
+    // Whether the potions have been passed to the tracked container since being loaded
+    private boolean published;
 
     /* represents that something has occurred which means we should update the values of potions **/
     public boolean updateCachedPotions;
@@ -103,114 +103,125 @@ public class PotionStorage
     {
         if (VarPlayerID.POTIONSTORE_VIALS == varbitChanged.getVarpId())
         {
+            // the bank is only rebuilt if the rebuild finds that the qty has changed
             updateCachedPotions = true;
-            updateBankLayout = true; // trigger a bank rebuild as the qty has changed
         }
     }
 
-    private void rebuildPotions()
+    private void loadPotionEnums()
     {
         var potionStorePotions = client.getEnum(EnumID.POTIONSTORE_POTIONS);
         var potionStoreUnfinishedPotions = client.getEnum(EnumID.POTIONSTORE_UNFINISHED_POTIONS);
-        potions = new Potion[potionStorePotions.size() + potionStoreUnfinishedPotions.size() + 1];
+        int potionCount = potionStorePotions.size() + potionStoreUnfinishedPotions.size();
+
+        potionEnumIds = new int[potionCount];
+        potionEnums = new EnumComposition[potionCount];
         int potionsIdx = 0;
         for (EnumComposition e : new EnumComposition[]{potionStorePotions, potionStoreUnfinishedPotions})
         {
             for (int potionEnumId : e.getIntVals())
             {
-                var potionEnum = client.getEnum(potionEnumId);
-                client.runScript(ScriptID.POTIONSTORE_DOSES, potionEnumId);
-                int doses = client.getIntStack()[0];
-                client.runScript(ScriptID.POTIONSTORE_WITHDRAW_DOSES, potionEnumId);
-                int withdrawDoses = client.getIntStack()[0];
-
-                if (doses > 0 && withdrawDoses > 0)
-                {
-                    Potion p = new Potion();
-                    p.potionEnum = potionEnum;
-                    p.itemId = potionEnum.getIntValue(withdrawDoses);
-                    p.doses = doses;
-                    p.withdrawDoses = withdrawDoses;
-                    potions[potionsIdx] = p;
-                }
-
+                potionEnumIds[potionsIdx] = potionEnumId;
+                potionEnums[potionsIdx] = client.getEnum(potionEnumId);
                 ++potionsIdx;
             }
         }
 
-        // Add vial
-        Potion p = new Potion();
-        p.potionEnum = null;
-        p.itemId = ItemID.VIAL_EMPTY;
-        p.doses = client.getVarpValue(VarPlayerID.POTIONSTORE_VIALS);
-        p.withdrawDoses = 0;
-        potions[potions.length - 1] = p;
-
-        Item[] newTrackedPotions = getItems();
-
-        Map<Integer, Integer> newPotionsAsMap = itemArrayToMap(newTrackedPotions);
-        Map<Integer, Integer> oldPotionsAsMap = itemArrayToMap(QuestContainerManager.getPotionData().getItems());
-        if (!oldPotionsAsMap.equals(newPotionsAsMap))
-        {
-            updateBankLayout = true;
-        }
-
-        QuestContainerManager.getPotionData().update(client.getTickCount(), newTrackedPotions);
+        itemIds = new int[potionCount + 1];
+        quantities = new int[potionCount + 1];
+        Arrays.fill(itemIds, -1);
+        published = false;
     }
 
-    public Item[] getItems()
+    private void rebuildPotions()
     {
-        if (potions == null)
+        if (potionEnums == null)
         {
-            return new Item[0];
+            loadPotionEnums();
         }
 
-        List<Item> items = new ArrayList<>();
-
-        for (Potion potion : potions)
+        boolean changed = !published;
+        for (int i = 0; i < potionEnums.length; i++)
         {
-            if (potion == null) continue;
-            var potionEnum = potion.potionEnum;
-            if (potionEnum != null)
-            {
-                int potionItemId = potionEnum.getIntValue(potion.withdrawDoses);
-                int quantity = potion.doses / potion.withdrawDoses;
-                items.add(new Item(potionItemId, quantity));
-            }
-            else
+            client.runScript(ScriptID.POTIONSTORE_DOSES, potionEnumIds[i]);
+            int doses = client.getIntStack()[0];
+            client.runScript(ScriptID.POTIONSTORE_WITHDRAW_DOSES, potionEnumIds[i]);
+            int withdrawDoses = client.getIntStack()[0];
+
+            int itemId = -1;
+            int quantity = 0;
+            if (doses > 0 && withdrawDoses > 0)
             {
-                items.add(new Item(potion.itemId, potion.doses));
+                itemId = potionEnums[i].getIntValue(withdrawDoses);
+                quantity = doses / withdrawDoses;
             }
+
+            changed |= setPotion(i, itemId, quantity);
         }
 
-        return items.toArray(new Item[0]);
+        // Add vial
+        changed |= setPotion(itemIds.length - 1, ItemID.VIAL_EMPTY, client.getVarpValue(VarPlayerID.POTIONSTORE_VIALS));
+
+        if (!changed)
+        {
+            return;
+        }
+
+        updateBankLayout = true;
+        items = buildItems();
+        published = true;
+        QuestContainerManager.getPotionData().update(client.getTickCount(), items);
     }
 
-    int count(int itemId)
+    private boolean setPotion(int idx, int itemId, int quantity)
     {
-        if (potions == null)
+        if (itemIds[idx] == itemId && quantities[idx] == quantity)
         {
-            return 0;
+            return false;
         }
 
-        for (Potion potion : potions)
+        itemIds[idx] = itemId;
+        quantities[idx] = quantity;
+        return true;
+    }
+
+    private Item[] buildItems()
+    {
+        int size = 0;
+        for (int itemId : itemIds)
         {
-            if (potion != null && potion.itemId == itemId)
-            {
-                if (potion.withdrawDoses != 0)
-                {
-                    return potion.doses / potion.withdrawDoses;
-                }
+            if (itemId != -1) size++;
+        }
 
-                return potion.doses;
+        Item[] newItems = new Item[size];
+        int itemsIdx = 0;
+        for (int i = 0; i < itemIds.length; i++)
+        {
+            if (itemIds[i] != -1)
+            {
+                newItems[itemsIdx++] = new Item(itemIds[i], quantities[i]);
             }
         }
-        return 0;
+        return newItems;
+    }
+
+    /**
+     * @return the potions in the potion store, as withdrawn with the current withdraw doses. This should not be modified.
+     */
+    public Item[] getItems()
+    {
+        return items;
+    }
+
+    int count(int itemId)
+    {
+        int idx = indexOf(itemId);
+        return idx == -1 ? 0 : quantities[idx];
     }
 
     int find(int itemId)
     {
-        if (potions == null)
+        if (itemIds == null)
         {
             return -1;
         }
@@ -220,13 +231,21 @@ public class PotionStorage
             return VIAL_IDX;
         }
 
-        int potionIdx = 0;
-        for (Potion potion : potions)
+        return indexOf(itemId);
+    }
+
+    private int indexOf(int itemId)
+    {
+        if (itemIds == null || itemId == -1)
+        {
+            return -1;
+        }
+
+        for (int i = 0; i < itemIds.length; i++)
         {
-            ++potionIdx;
-            if (potion != null && potion.itemId == itemId)
+            if (itemIds[i] == itemId)
             {
-                return potionIdx - 1;
+                return i;
             }
         }
         return -1;
@@ -240,7 +259,7 @@ public class PotionStorage
         if (potStoreContent.getChildren() == null)
         {
             int childIdx = 0;
-            for (int i = 0; i < potions.length; ++i) // NOPMD: ForLoopCanBeForeach
+            for (int i = 0; i < itemIds.length; ++i) // NOPMD: ForLoopCanBeForeach
             {
                 for (int j = 0; j < COMPONENTS_PER_POTION; ++j)
                 {
@@ -249,18 +268,4 @@ public class PotionStorage
             }
         }
     }
-
-    private Map<Integer, Integer> itemArrayToMap(Item[] items)
-    {
-        if (items == null) return new HashMap<>();
-        Map<Integer, Integer> quantityMap = new HashMap<>();
-        for (Item item : items)
-        {
-            quantityMap.put(
-                    item.getId(),
-                    quantityMap.getOrDefault(item.getId(), 0) + item.getQuantity()
-            );
-        }
-        return quantityMap;
-    }
 }
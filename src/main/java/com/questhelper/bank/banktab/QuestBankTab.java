@@ -30,6 +30,7 @@ package com.questhelper.bank.banktab;
 
 import com.google.common.primitives.Shorts;
 import com.questhelper.QuestHelperPlugin;
+import com.questhelper.managers.RequirementCheckCache;
 import com.questhelper.requirements.item.ItemRequirement;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.*;
@@ -76,14 +77,19 @@ public class QuestBankTab
 	private static final int LINE_VERTICAL_SPACING = 5;
 	private static final int LINE_HEIGHT = 2;
 	private static final int TEXT_HEIGHT = 15;
-	private static final int EMPTY_BANK_SLOT_ID = 6512;
 
 	private static final int MAX_RESULT_COUNT = 250;
 
 	private static final int CROSS_SPRITE_ID = 1216;
 	private static final int TICK_SPRITE_ID = 1217;
 
+	// Widgets added to the bank item container. These are kept whilst the quest tab is open and re-used by later
+	// layouts, so only the properties which changed need to be set.
 	private final ArrayList<Widget> addedWidgets = new ArrayList<>();
+	private final ArrayList<Widget> addedTextWidgets = new ArrayList<>();
+	private final ArrayList<Widget> addedGraphicWidgets = new ArrayList<>();
+	private int textWidgetsUsed;
+	private int graphicWidgetsUsed;
 
 	@Inject
 	private ItemManager itemManager;
@@ -328,7 +334,41 @@ public class QuestBankTab
 		parent.setChildren(Arrays.copyOf(parent.getChildren(), originalContainerChildren));
 		parent.revalidate();
 
+		clearAddedWidgets();
+	}
+
+	private void clearAddedWidgets()
+	{
 		addedWidgets.clear();
+		addedTextWidgets.clear();
+		addedGraphicWidgets.clear();
+	}
+
+	// If the client has rebuilt the container's children, the added widgets no longer exist to be re-used
+	private void checkAddedWidgetsExist(Widget itemContainer)
+	{
+		Widget[] children = itemContainer.getChildren();
+		for (Widget widget : addedWidgets)
+		{
+			if (children == null || widget.getIndex() >= children.length || children[widget.getIndex()] != widget)
+			{
+				clearAddedWidgets();
+				return;
+			}
+		}
+	}
+
+	// Hide the added widgets which weren't needed by the latest layout
+	private void hideUnusedAddedWidgets()
+	{
+		for (int i = textWidgetsUsed; i < addedTextWidgets.size(); i++)
+		{
+			addedTextWidgets.get(i).setHidden(true);
+		}
+		for (int i = graphicWidgetsUsed; i < addedGraphicWidgets.size(); i++)
+		{
+			addedGraphicWidgets.get(i).setHidden(true);
+		}
 	}
 
 	@Subscribe
@@ -357,10 +397,9 @@ public class QuestBankTab
 			return;
 		}
 
-		removeAddedWidgets();
-
 		if (!questBankTabInterface.isQuestTabActive())
 		{
+			removeAddedWidgets();
 			return;
 		}
 
@@ -369,6 +408,7 @@ public class QuestBankTab
 		{
 			return;
 		}
+		checkAddedWidgetsExist(itemContainer);
 		Widget[] children = itemContainer.getChildren();
 		if (children != null && originalContainerChildren == -1) originalContainerChildren = children.length;
 
@@ -391,26 +431,21 @@ public class QuestBankTab
 		int totalSectionsHeight = 0;
 
 		widgetItems.clear();
+		textWidgetsUsed = 0;
+		graphicWidgetsUsed = 0;
 
 		// Hide all widgets as we'll be making our own using them
 		hideBankWidgets(itemContainer, containerChildren);
 
 
-		List<Integer> itemList = new ArrayList<>();
-		for (Widget itemWidget : containerChildren)
+		for (int i = 0; i < getBankWidgetCount(containerChildren); i++)
 		{
+			Widget itemWidget = containerChildren[i];
 			if (itemWidget.getSpriteId() == SpriteID.RESIZEABLE_MODE_SIDE_PANEL_BACKGROUND
 				|| itemWidget.getText().contains("Tab"))
 			{
 				itemWidget.setHidden(true);
 			}
-			else if (!itemWidget.isHidden() &&
-				itemWidget.getItemId() != -1 &&
-				!itemList.contains(itemWidget.getItemId()) &&
-				itemWidget.getItemId() != EMPTY_BANK_SLOT_ID)
-			{
-				itemList.add(itemWidget.getItemId());
-			}
 		}
 
 		List<BankText> bankItemTexts = new ArrayList<>();
@@ -423,7 +458,7 @@ public class QuestBankTab
 		// We add item texts after all items are added so they always overlay
 		for (BankText bankText : bankItemTexts)
 		{
-			Widget realItemQuantityText = createText(itemContainer,
+			createText(itemContainer,
 				bankText.text,
 				Color.WHITE.getRGB(),
 				ITEM_HORIZONTAL_SPACING,
@@ -431,21 +466,20 @@ public class QuestBankTab
 				bankText.x,
 				bankText.y);
 
-			addedWidgets.add(realItemQuantityText);
-
 			if (bankText.spriteID != -1)
 			{
-				Widget realItemInInventorySprite = createIcon(itemContainer,
+				createIcon(itemContainer,
 					bankText.spriteID,
 						bankText.spriteX,
 					bankText.spriteY
 				);
-				addedWidgets.add(realItemInInventorySprite);
 			}
 
 			currentWidgetToUse = 0;
 		}
 
+		hideUnusedAddedWidgets();
+
 		final Widget bankItemContainer = client.getWidget(InterfaceID.Bankmain.ITEMS);
 		if (bankItemContainer == null) return;
 		int itemContainerHeight = bankItemContainer.getHeight();
@@ -460,9 +494,20 @@ public class QuestBankTab
 				itemContainerScroll));
 	}
 
+	// The added widgets come after the bank's own, and are only hidden by hideUnusedAddedWidgets so that the ones which
+	// are re-used don't need revalidating
+	private int getBankWidgetCount(Widget[] containerChildren)
+	{
+		if (originalContainerChildren == -1)
+		{
+			return containerChildren.length;
+		}
+		return Math.min(containerChildren.length, originalContainerChildren);
+	}
+
 	private void hideBankWidgets(Widget itemContainer, Widget[] containerChildren)
 	{
-		for (int i = 0; i < containerChildren.length; ++i)
+		for (int i = 0; i < getBankWidgetCount(containerChildren); ++i)
 		{
 			Widget widget = itemContainer.getChild(i);
 			if (widget == null) continue;
@@ -689,7 +734,7 @@ public class QuestBankTab
 			yPos = baseY + 9;
 		}
 
-		boolean hasItem = item.check(client);
+		boolean hasItem = RequirementCheckCache.check(client, item);
 		int spritePosX = xPos + requirementLength + 10;
 		int spritePosY = yPos;
 		// If required quantity moved down a line, put tick/cross after current quantity
@@ -711,17 +756,17 @@ public class QuestBankTab
 
 	private int addSubSectionHeader(Widget itemContainer, String title, int totalSectionsHeight)
 	{
-		addedWidgets.add(createText(itemContainer, title, new Color(228, 216, 162).getRGB(), (ITEMS_PER_ROW * ITEM_HORIZONTAL_SPACING) + ITEM_ROW_START
-			, TEXT_HEIGHT, ITEM_ROW_START, totalSectionsHeight + LINE_VERTICAL_SPACING));
+		createText(itemContainer, title, new Color(228, 216, 162).getRGB(), (ITEMS_PER_ROW * ITEM_HORIZONTAL_SPACING) + ITEM_ROW_START
+			, TEXT_HEIGHT, ITEM_ROW_START, totalSectionsHeight + LINE_VERTICAL_SPACING);
 
 		return totalSectionsHeight + LINE_VERTICAL_SPACING + TEXT_HEIGHT;
 	}
 
 	private int addSectionHeader(Widget itemContainer, String title, int totalSectionsHeight)
 	{
-		addedWidgets.add(createGraphic(itemContainer, SpriteID.RESIZEABLE_MODE_SIDE_PANEL_BACKGROUND, ITEM_ROW_START, totalSectionsHeight));
-		addedWidgets.add(createText(itemContainer, title, new Color(228, 216, 162).getRGB(), (ITEMS_PER_ROW * ITEM_HORIZONTAL_SPACING) + ITEM_ROW_START
-			, TEXT_HEIGHT, ITEM_ROW_START, totalSectionsHeight + LINE_VERTICAL_SPACING));
+		createGraphic(itemContainer, SpriteID.RESIZEABLE_MODE_SIDE_PANEL_BACKGROUND, ITEM_ROW_START, totalSectionsHeight);
+		createText(itemContainer, title, new Color(228, 216, 162).getRGB(), (ITEMS_PER_ROW * ITEM_HORIZONTAL_SPACING) + ITEM_ROW_START
+			, TEXT_HEIGHT, ITEM_ROW_START, totalSectionsHeight + LINE_VERTICAL_SPACING);
 
 		return totalSectionsHeight + LINE_VERTICAL_SPACING + TEXT_HEIGHT;
 	}
@@ -775,52 +820,98 @@ public class QuestBankTab
 	private Widget createGraphic(Widget container, int spriteId, int x, int y)
 	{
 		final int WIDTH = ITEMS_PER_ROW * ITEM_HORIZONTAL_SPACING;
-		Widget widget = container.createChild(-1, WidgetType.GRAPHIC);
-		widget.setOriginalWidth(WIDTH);
-		widget.setOriginalHeight(QuestBankTab.LINE_HEIGHT);
-		widget.setOriginalX(x);
-		widget.setOriginalY(y);
+		return createSprite(container, spriteId, WIDTH, QuestBankTab.LINE_HEIGHT, x, y);
+	}
 
-		widget.setSpriteId(spriteId);
+	private Widget createText(Widget container, String text, int color, int width, int height, int x, int y)
+	{
+		Widget widget = getAddedWidget(container, WidgetType.TEXT);
 
-		widget.revalidate();
+		boolean changed = setBounds(widget, width, height, x, y);
+		if (!text.equals(widget.getText()))
+		{
+			widget.setText(text);
+			changed = true;
+		}
+		if (widget.getFontId() != FontID.PLAIN_11 || widget.getTextColor() != color || !widget.getTextShadowed())
+		{
+			widget.setFontId(FontID.PLAIN_11);
+			widget.setTextColor(color);
+			widget.setTextShadowed(true);
+			changed = true;
+		}
 
+		show(widget, changed);
 		return widget;
 	}
 
-	private Widget createText(Widget container, String text, int color, int width, int height, int x, int y)
+	private Widget createIcon(Widget container, int spriteID, int x, int y)
 	{
-		Widget widget = container.createChild(-1, WidgetType.TEXT);
+		final int WIDTH = 10;
+		final int HEIGHT = 10;
+		return createSprite(container, spriteID, WIDTH, HEIGHT, x, y);
+	}
 
-		widget.setOriginalWidth(width);
-		widget.setOriginalHeight(height);
-		widget.setOriginalX(x);
-		widget.setOriginalY(y);
+	private Widget createSprite(Widget container, int spriteId, int width, int height, int x, int y)
+	{
+		Widget widget = getAddedWidget(container, WidgetType.GRAPHIC);
 
-		widget.setText(text);
-		widget.setFontId(FontID.PLAIN_11);
-		widget.setTextColor(color);
-		widget.setTextShadowed(true);
+		boolean changed = setBounds(widget, width, height, x, y);
+		if (widget.getSpriteId() != spriteId)
+		{
+			widget.setSpriteId(spriteId);
+			changed = true;
+		}
 
-		widget.revalidate();
+		show(widget, changed);
+		return widget;
+	}
+
+	/**
+	 * Get the next unused widget of the given type added by a previous layout, or add a new one if they're all in use.
+	 */
+	private Widget getAddedWidget(Widget container, int type)
+	{
+		boolean isText = type == WidgetType.TEXT;
+		List<Widget> pool = isText ? addedTextWidgets : addedGraphicWidgets;
+		int used = isText ? textWidgetsUsed++ : graphicWidgetsUsed++;
+		if (used < pool.size())
+		{
+			return pool.get(used);
+		}
 
+		Widget widget = container.createChild(-1, type);
+		pool.add(widget);
+		addedWidgets.add(widget);
 		return widget;
 	}
 
-	private Widget createIcon(Widget container, int spriteID, int x, int y)
+	private boolean setBounds(Widget widget, int width, int height, int x, int y)
 	{
-		final int WIDTH = 10;
-		final int HEIGHT = 10;
-		Widget widget = container.createChild(-1, WidgetType.GRAPHIC);
-		widget.setOriginalWidth(WIDTH);
-		widget.setOriginalHeight(HEIGHT);
+		if (widget.getOriginalWidth() == width && widget.getOriginalHeight() == height
+			&& widget.getOriginalX() == x && widget.getOriginalY() == y)
+		{
+			return false;
+		}
+
+		widget.setOriginalWidth(width);
+		widget.setOriginalHeight(height);
 		widget.setOriginalX(x);
 		widget.setOriginalY(y);
+		return true;
+	}
 
-		widget.setSpriteId(spriteID);
-
-		widget.revalidate();
+	private void show(Widget widget, boolean changed)
+	{
+		if (widget.isSelfHidden())
+		{
+			widget.setHidden(false);
+			changed = true;
+		}
 
-		return widget;
+		if (changed)
+		{
+			widget.revalidate();
+		}
 	}
 }
@@ -25,11 +25,19 @@
 package com.questhelper.bank.banktab;
 
 import com.questhelper.QuestHelperPlugin;
+import com.questhelper.managers.ItemAndLastUpdated;
+import com.questhelper.managers.QuestContainerManager;
+import com.questhelper.managers.RequirementCheckCache;
+import com.questhelper.managers.RequirementInputTracker;
 import com.questhelper.panel.PanelDetails;
+import com.questhelper.questhelpers.QuestHelper;
+import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.item.ItemRequirement;
 import com.questhelper.requirements.item.ItemRequirements;
 import com.questhelper.requirements.item.KeyringRequirement;
 import com.questhelper.requirements.util.LogicType;
+import com.questhelper.steps.QuestStep;
 import net.runelite.api.Client;
 import net.runelite.api.gameval.ItemID;
 
@@ -37,8 +45,13 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Singleton
@@ -50,36 +63,78 @@ public class QuestHelperBankTagService
 	@Inject
 	private Client client;
 
-	ArrayList<Integer> taggedItems;
-
 	ArrayList<Integer> taggedItemsForBank;
 
-	int lastTickUpdated = 0;
+	// The layouts last built with and without items which are already held, so that they are only rebuilt when a
+	// requirement or item they were built from changes
+	private final BankTabModel missingItemsModel = new BankTabModel();
+	private final BankTabModel allItemsModel = new BankTabModel();
 
 	private final String RECOMMENDED_TAB_NAME = "Recommended items";
 
-	public ArrayList<Integer> itemsToTag()
+	// Requirements shown in the tab may be copies made for each layout, so this is cleared if it gets large
+	private static final int MAX_DISPLAY_IDS = 1000;
+
+	private final Map<ItemRequirement, Integer> displayIds = new IdentityHashMap<>();
+	private final int[] displayIdsContainerVersions = new int[QuestContainerManager.getOrderedListOfContainers().size()];
+
+	private static class BankTabModel
 	{
-		if (client.getTickCount() <= lastTickUpdated)
+		QuestHelper quest;
+		QuestStep step;
+		int tick = -1;
+		long generation = -1;
+		RequirementInputs inputs = RequirementInputs.UNKNOWN;
+		ArrayList<BankTabItems> sections;
+		ArrayList<Integer> taggedItems;
+
+		void invalidate()
 		{
-			return taggedItems;
+			sections = null;
+			taggedItems = null;
 		}
 
-		lastTickUpdated = client.getTickCount();
+		boolean isValidFor(QuestHelper quest, QuestStep step, int tick)
+		{
+			if (sections == null || quest != this.quest || step != this.step)
+			{
+				return false;
+			}
 
-		return getItemsFromTabs();
+			// Requirements which don't declare their inputs are re-checked each tick, as with RequirementCheckCache
+			if (inputs.isUnknown())
+			{
+				return tick == this.tick && generation == RequirementInputTracker.getGeneration();
+			}
+			return !RequirementInputTracker.hasChangedSince(inputs, generation);
+		}
 	}
 
-	private ArrayList<Integer> getItemsFromTabs()
+	/**
+	 * Discard the sections built for the bank tab, so that they are rebuilt the next time they are needed.
+	 */
+	public void invalidate()
 	{
-		ArrayList<BankTabItems> sortedItems = getPluginBankTagItemsForSections(true);
+		missingItemsModel.invalidate();
+		allItemsModel.invalidate();
+		displayIds.clear();
+	}
 
-		if (sortedItems == null)
+	public ArrayList<Integer> itemsToTag()
+	{
+		BankTabModel model = getModel(true);
+		if (model.taggedItems == null)
 		{
-			return null;
+			model.taggedItems = getItemsFromTabs(model.sections);
 		}
+		taggedItemsForBank = model.taggedItems;
+		return taggedItemsForBank;
+	}
 
-		taggedItemsForBank = new ArrayList<>();
+	private ArrayList<Integer> getItemsFromTabs(ArrayList<BankTabItems> sortedItems)
+	{
+		// A set avoids the quadratic cost of checking a list for each id, whilst keeping the order of the sections
+		Set<Integer> taggedItems = new LinkedHashSet<>();
 
 		sortedItems.stream()
 				.map(BankTabItems::getItems)
@@ -87,12 +142,63 @@ public class QuestHelperBankTagService
 				.map(BankTabItem::getItemIDs)
 				.flatMap(Collection::stream)
 				.filter(Objects::nonNull) // filter non-null just in case any Integer get in the list
-				.filter(id -> !taggedItemsForBank.contains(id))
-				.forEach(taggedItemsForBank::add);
-		return taggedItemsForBank;
+				.forEach(taggedItems::add);
+		return new ArrayList<>(taggedItems);
 	}
 
+	/**
+	 * Get the sections of items to show in the bank tab for the selected quest. The sections are only rebuilt when
+	 * the selected quest or its active step changes, when any requirement or item they were built from has changed, or
+	 * after {@link #invalidate()}.
+	 *
+	 * @param onlyGetMissingItems whether to leave out items which the player already has
+	 * @return the sections of items to show. This should not be modified.
+	 */
 	public ArrayList<BankTabItems> getPluginBankTagItemsForSections(boolean onlyGetMissingItems)
+	{
+		return getModel(onlyGetMissingItems).sections;
+	}
+
+	private BankTabModel getModel(boolean onlyGetMissingItems)
+	{
+		BankTabModel model = onlyGetMissingItems ? missingItemsModel : allItemsModel;
+		QuestHelper quest = plugin.getSelectedQuest();
+		QuestStep step = getActiveStep(quest);
+		int tick = client.getTickCount();
+		if (model.isValidFor(quest, step, tick))
+		{
+			return model;
+		}
+
+		// The generation is taken before building, so that anything changing whilst building causes a rebuild
+		long generation = RequirementInputTracker.getGeneration();
+		List<Requirement> dependencies = new ArrayList<>();
+		Set<Integer> displayItemIds = new HashSet<>();
+
+		model.sections = buildPluginBankTagItemsForSections(onlyGetMissingItems, dependencies, displayItemIds);
+		model.taggedItems = null;
+		model.quest = quest;
+		model.step = step;
+		model.tick = tick;
+		model.generation = generation;
+		// Config changes can alter which of the quest's requirements and recommendations apply, so rebuild after them too
+		model.inputs = RequirementInputs.combine(dependencies)
+			.and(RequirementInputs.items(displayItemIds))
+			.and(RequirementInputs.of(RequirementInputs.Type.CONFIG));
+		return model;
+	}
+
+	private static QuestStep getActiveStep(QuestHelper quest)
+	{
+		if (quest == null || quest.getCurrentStep() == null)
+		{
+			return null;
+		}
+		return quest.getCurrentStep().getActiveStep();
+	}
+
+	private ArrayList<BankTabItems> buildPluginBankTagItemsForSections(boolean onlyGetMissingItems, List<Requirement> dependencies,
+		Set<Integer> displayItemIds)
 	{
 		ArrayList<BankTabItems> newList = new ArrayList<>();
 
@@ -106,6 +212,7 @@ public class QuestHelperBankTagService
 		List<ItemRequirement> recommendedItems = plugin.getSelectedQuest().getItemRecommended();
 		if (recommendedItems != null)
 		{
+			recommendedItems.forEach(item -> addDependencies(dependencies, item));
 			recommendedItems = recommendedItems.stream()
 				.filter(Objects::nonNull)
 				.filter(i -> (!onlyGetMissingItems || !i.checkWithAllContainers()) && i.shouldDisplayText(plugin.getClient()))
@@ -120,9 +227,10 @@ public class QuestHelperBankTagService
 			newList.add(pluginItems);
 		}
 
+		questSections.forEach(panelDetail -> dependencies.add(panelDetail.getHideCondition()));
 		List<PanelDetails> shouldShowSections = questSections.stream()
 			.filter(panelDetail -> panelDetail.getHideCondition() == null ||
-				!panelDetail.getHideCondition().check(plugin.getClient()))
+				!RequirementCheckCache.check(plugin.getClient(), panelDetail.getHideCondition()))
 			.collect(Collectors.toList());
 
 		for (PanelDetails questSection : shouldShowSections)
@@ -130,6 +238,9 @@ public class QuestHelperBankTagService
 			List<ItemRequirement> items = new ArrayList<>();
 			if (questSection.getRequirements() != null)
 			{
+				questSection.getRequirements().stream()
+					.filter(ItemRequirement.class::isInstance)
+					.forEach(req -> addDependencies(dependencies, req));
 				items = questSection.getRequirements()
 					.stream()
 					.filter(ItemRequirement.class::isInstance)
@@ -142,6 +253,9 @@ public class QuestHelperBankTagService
 			List<ItemRequirement> recommendedItemsForSection = new ArrayList<>();
 			if (questSection.getRecommended() != null)
 			{
+				questSection.getRecommended().stream()
+					.filter(ItemRequirement.class::isInstance)
+					.forEach(req -> addDependencies(dependencies, req));
 				recommendedItemsForSection = questSection.getRecommended()
 					.stream()
 					.filter(ItemRequirement.class::isInstance)
@@ -170,11 +284,12 @@ public class QuestHelperBankTagService
 			List<ItemRequirement> items;
 			if (allRequired != null && allRequired.size() > 0)
 			{
+				allRequired.forEach(item -> addDependencies(dependencies, item));
 				items = allRequired.stream()
 					.filter(Objects::nonNull)
 					.map(ItemRequirement.class::cast)
 					.filter(i -> (!onlyGetMissingItems
-				   || !i.check(plugin.getClient()))
+				   || !RequirementCheckCache.check(plugin.getClient(), i))
 				   && i.shouldDisplayText(plugin.getClient()))
 					.collect(Collectors.toList());
 
@@ -183,9 +298,35 @@ public class QuestHelperBankTagService
 			newList.add(allRequiredItems);
 		}
 
+		// The display ids depend on which items are in the bank, and the items shown may be copies of the requirements
+		for (BankTabItems section : newList)
+		{
+			for (List<BankTabItem> bankTabItems : List.of(section.getItems(), section.getRecommendedItems()))
+			{
+				for (BankTabItem bankTabItem : bankTabItems)
+				{
+					addDependencies(dependencies, bankTabItem.getItemRequirement());
+					displayItemIds.addAll(bankTabItem.getItemRequirement().getDisplayItemIds());
+				}
+			}
+		}
+
 		return newList;
 	}
 
+	private void addDependencies(List<Requirement> dependencies, Requirement requirement)
+	{
+		dependencies.add(requirement);
+		if (requirement instanceof ItemRequirement)
+		{
+			dependencies.add(((ItemRequirement) requirement).getConditionToHide());
+		}
+		if (requirement instanceof ItemRequirements)
+		{
+			((ItemRequirements) requirement).getItemRequirements().forEach(req -> addDependencies(dependencies, req));
+		}
+	}
+
 	private void getItemsFromRequirement(List<BankTabItem> pluginItems, ItemRequirement itemRequirement, ItemRequirement realItem)
 	{
 		if (itemRequirement instanceof ItemRequirements)
@@ -241,26 +382,70 @@ public class QuestHelperBankTagService
 
 	private BankTabItem makeBankTabItem(ItemRequirement item)
 	{
-		List<Integer> itemIds = item.getDisplayItemIds();
-		Integer displayId = itemIds.stream()
-				.filter(this::hasItemInBankOrPotionStorage)
-				.findFirst()
-				.orElse(item.getAllIds().stream()
-						.filter(this::hasItemInBankOrPotionStorage)
-						.findFirst()
-						.orElse(item.getAllIds().get(0))
-				);
-		if (displayId == -1 && item.getDisplayItemId() != -1)
+		clearDisplayIdsIfItemsChanged();
+		Integer displayId = displayIds.get(item);
+		if (displayId == null)
 		{
-			displayId = item.getDisplayItemId();
+			displayId = findDisplayId(item);
+			displayIds.put(item, displayId);
 		}
 
 		return new BankTabItem(item, displayId);
 	}
 
+	private int findDisplayId(ItemRequirement item)
+	{
+		int displayId = findHeldId(item.getDisplayItemIds());
+		if (displayId == -1)
+		{
+			displayId = findHeldId(item.getAllIds());
+		}
+		if (displayId == -1)
+		{
+			displayId = item.getAllIds().get(0);
+		}
+		if (displayId == -1 && item.getDisplayItemId() != null && item.getDisplayItemId() != -1)
+		{
+			displayId = item.getDisplayItemId();
+		}
+		return displayId;
+	}
+
+	private int findHeldId(List<Integer> itemIds)
+	{
+		for (int itemId : itemIds)
+		{
+			if (hasItemInBankOrPotionStorage(itemId))
+			{
+				return itemId;
+			}
+		}
+		return -1;
+	}
+
+	// The display ids chosen depend only on the items held, so are kept until any tracked container changes
+	private void clearDisplayIdsIfItemsChanged()
+	{
+		List<ItemAndLastUpdated> containers = QuestContainerManager.getOrderedListOfContainers();
+		boolean changed = displayIds.size() > MAX_DISPLAY_IDS;
+		for (int i = 0; i < containers.size(); i++)
+		{
+			int version = containers.get(i).getVersion();
+			if (displayIdsContainerVersions[i] != version)
+			{
+				displayIdsContainerVersions[i] = version;
+				changed = true;
+			}
+		}
+
+		if (changed)
+		{
+			displayIds.clear();
+		}
+	}
+
 	public boolean hasItemInBankOrPotionStorage(int itemID)
 	{
-		ItemRequirement tmpReq = new ItemRequirement("tmp", itemID);
-		return tmpReq.checkWithAllContainers();
+		return QuestContainerManager.getTotalQuantity(itemID) > 0;
 	}
 }
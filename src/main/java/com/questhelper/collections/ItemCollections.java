@@ -25,7 +25,7 @@
 package com.questhelper.collections;
 
 import com.google.common.collect.ImmutableList;
-import lombok.AllArgsConstructor;
+import com.questhelper.util.ItemIdSet;
 import lombok.Getter;
 import net.runelite.api.gameval.ItemID;
 
@@ -90,7 +90,6 @@ import java.util.List;
 	 );
  }
 
-@AllArgsConstructor
 @Getter
 public enum ItemCollections
 {
@@ -2196,16 +2195,24 @@ public enum ItemCollections
 	private final List<Integer> items;
 	private final String wikiTerm;
 
+	// The same ids as items, for checking membership without caring about order
+	private final ItemIdSet idSet;
+
 	ItemCollections(String wikiTerm, List<Integer> items)
 	{
 		this.wikiTerm = wikiTerm;
 		this.items = items;
+		this.idSet = ItemIdSet.of(items);
 	}
 
 	ItemCollections(List<Integer> items)
 	{
-		this.wikiTerm = null;
-		this.items = items;
+		this(null, items);
+	}
+
+	public boolean contains(int itemId)
+	{
+		return idSet.contains(itemId);
 	}
 
 	public List<Integer> reverseOrder()
@@ -172,4 +172,27 @@ public enum ItemWithCharge
 		return ID_MAP.get(itemId);
 	}
 
+	// Indexed by item id, with -1 for items without charges, so charges can be looked up without boxing
+	private static final int[] CHARGES_BY_ID;
+
+	static {
+		int maxId = ID_MAP.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1);
+		CHARGES_BY_ID = new int[maxId + 1];
+		Arrays.fill(CHARGES_BY_ID, -1);
+		ID_MAP.forEach((id, item) -> CHARGES_BY_ID[id] = item.charges);
+	}
+
+	/**
+	 * @param itemId the item id to look up
+	 * @return the charges of the item, or -1 if it is not an {@link ItemWithCharge}
+	 */
+	static public int findCharges(int itemId)
+	{
+		if (itemId < 0 || itemId >= CHARGES_BY_ID.length)
+		{
+			return -1;
+		}
+		return CHARGES_BY_ID[itemId];
+	}
+
 }
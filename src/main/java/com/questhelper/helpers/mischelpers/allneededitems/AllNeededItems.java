@@ -27,6 +27,7 @@ package com.questhelper.helpers.mischelpers.allneededitems;
 import com.questhelper.panel.PanelDetails;
 import com.questhelper.questhelpers.ComplexStateQuestHelper;
 import com.questhelper.questhelpers.QuestDetails;
+import com.questhelper.questinfo.QuestHelperQuest;
 import com.questhelper.requirements.item.ItemRequirement;
 import com.questhelper.steps.DetailedQuestStep;
 import com.questhelper.steps.QuestStep;
@@ -38,15 +39,58 @@ public class AllNeededItems extends ComplexStateQuestHelper
 {
 	DetailedQuestStep step1;
 
+	private enum Category
+	{
+		QUESTS("Quests"),
+		MINIQUESTS("Miniquests"),
+		ACHIEVEMENT_DIARIES("Achievement Diaries");
+
+		private final String panelName;
+
+		Category(String panelName)
+		{
+			this.panelName = panelName;
+		}
+
+		private static Category fromType(QuestDetails.Type type)
+		{
+			if (type == QuestDetails.Type.P2P || type == QuestDetails.Type.F2P)
+			{
+				return QUESTS;
+			}
+			else if (type == QuestDetails.Type.MINIQUEST)
+			{
+				return MINIQUESTS;
+			}
+			else if (type == QuestDetails.Type.ACHIEVEMENT_DIARY)
+			{
+				return ACHIEVEMENT_DIARIES;
+			}
+			return null;
+		}
+	}
+
+	// The quest item maps the aggregates were built from. These are replaced whenever a quest completes or the
+	// highlight config changes, so the aggregates are only rebuilt when they have been.
+	private Map<QuestHelperQuest, List<ItemRequirement>> aggregatedRequirements;
+	private Map<QuestHelperQuest, List<ItemRequirement>> aggregatedRecommended;
+
+	private NeededItemsAggregate allNeeded;
+	private NeededItemsAggregate allRequired;
+	private NeededItemsAggregate allRecommended;
+	private final Map<Category, NeededItemsAggregate> requiredByCategory = new EnumMap<>(Category.class);
+	private final Map<Category, NeededItemsAggregate> recommendedByCategory = new EnumMap<>(Category.class);
+
+	private List<PanelDetails> panels;
+	private DetailedQuestStep panelsStep;
+
 	@Override
 	public QuestStep loadStep()
 	{
-		Map<Integer, ItemRequirement> reqs = new LinkedHashMap<>();;
-		questHelperPlugin.getItemRequirements().forEach((qhQuest, questReqs) -> refinedList(qhQuest.getName(), reqs, questReqs));
-		questHelperPlugin.getItemRecommended().forEach((qhQuest, questRecommended) -> refinedList(qhQuest.getName(), reqs, questRecommended));
+		updateAggregates();
 
 		step1 = new DetailedQuestStep(this, "Get all items you need. You can have items being highlighted that you" +
-			" need without running this helper if you activate it in the Quest Helper settings.", new ArrayList<>(reqs.values()));
+			" need without running this helper if you activate it in the Quest Helper settings.", new ArrayList<>(allNeeded.getItemRequirements()));
 		step1.hideRequirements = true;
 		step1.considerBankForItemHighlight = true;
 		step1.iconToUseForNeededItems = SpriteID.TAB_QUESTS;
@@ -55,36 +99,42 @@ public class AllNeededItems extends ComplexStateQuestHelper
 		return step1;
 	}
 
-	private void refinedList(String questName, Map<Integer, ItemRequirement> compressedReqs, List<ItemRequirement> reqs)
+	private void updateAggregates()
 	{
-		// TODO: Rather than an ItemRequirement, shift to an ItemRequirements with each itemreq as an ItemRequirement in it
-		// This would allow for better mixed IDs between items
-		for (ItemRequirement req : reqs)
+		Map<QuestHelperQuest, List<ItemRequirement>> requirements = questHelperPlugin.getItemRequirements();
+		Map<QuestHelperQuest, List<ItemRequirement>> recommended = questHelperPlugin.getItemRecommended();
+		if (requirements == aggregatedRequirements && recommended == aggregatedRecommended)
 		{
-			ItemRequirement newReq = req;
-			if (req.getId() == -1)
-			{
-				continue;
-			}
+			return;
+		}
 
-			if (req.getQuantity() == -1) newReq = req.quantity(1);
+		aggregatedRequirements = requirements;
+		aggregatedRecommended = recommended;
+		allNeeded = new NeededItemsAggregate();
+		allRequired = new NeededItemsAggregate();
+		allRecommended = new NeededItemsAggregate();
+		requiredByCategory.clear();
+		recommendedByCategory.clear();
+		panels = null;
+
+		requirements.forEach((qhQuest, questReqs) -> {
+			allNeeded.add(qhQuest.getName(), questReqs);
+			allRequired.add(qhQuest.getName(), questReqs);
+			addToCategory(requiredByCategory, qhQuest, questReqs);
+		});
+		recommended.forEach((qhQuest, questRecommended) -> {
+			allNeeded.add(qhQuest.getName(), questRecommended);
+			allRecommended.add(qhQuest.getName(), questRecommended);
+			addToCategory(recommendedByCategory, qhQuest, questRecommended);
+		});
+	}
 
-			if (!compressedReqs.containsKey(newReq.getId()))
-			{
-				ItemRequirement freshReq = new ItemRequirement(req.getName(), newReq.getId(), newReq.getQuantity());
-				String tip = "Needed for " + questName;
-				freshReq.setTooltip(tip);
-				compressedReqs.put(newReq.getId(), freshReq);
-			}
-			else
-			{
-				ItemRequirement currentReq = compressedReqs.get(newReq.getId());
-				currentReq.appendToTooltip(questName);
-				if (newReq.isConsumedItem())
-				{
-					currentReq.setQuantity(currentReq.getQuantity() + newReq.getQuantity());
-				}
-			}
+	private void addToCategory(Map<Category, NeededItemsAggregate> aggregates, QuestHelperQuest qhQuest, List<ItemRequirement> reqs)
+	{
+		Category category = Category.fromType(qhQuest.getQuestType());
+		if (category != null)
+		{
+			aggregates.computeIfAbsent(category, c -> new NeededItemsAggregate()).add(qhQuest.getName(), reqs);
 		}
 	}
 
@@ -97,76 +147,42 @@ public class AllNeededItems extends ComplexStateQuestHelper
 	@Override
 	public List<ItemRequirement> getItemRequirements()
 	{
-		Map<Integer, ItemRequirement> reqs = new LinkedHashMap<>();
-		questHelperPlugin.getItemRequirements().forEach((qhQuest, questReqs) -> refinedList(qhQuest.getName(), reqs, questReqs));
-		return new ArrayList<>(reqs.values());
+		updateAggregates();
+		return allRequired.getItemRequirements();
 	}
 
 	@Override
 	public List<ItemRequirement> getItemRecommended()
 	{
-		Map<Integer, ItemRequirement> reqs = new LinkedHashMap<>();
-		questHelperPlugin.getItemRecommended().forEach((qhQuest, questRecs) -> refinedList(qhQuest.getName(), reqs, questRecs));
-		return new ArrayList<>(reqs.values());
+		updateAggregates();
+		return allRecommended.getItemRequirements();
 	}
 
 	@Override
 	public List<PanelDetails> getPanels()
 	{
-		List<PanelDetails> allSteps = new ArrayList<>();
-		allSteps.add(new PanelDetails("Starting off", Collections.singletonList(step1)));
-		Map<Integer, ItemRequirement> questsReq = new LinkedHashMap<>();
-		Map<Integer, ItemRequirement> miniquestsReq = new LinkedHashMap<>();
-		Map<Integer, ItemRequirement> diariesReq = new LinkedHashMap<>();
-		Map<Integer, ItemRequirement> questsRec = new LinkedHashMap<>();
-		Map<Integer, ItemRequirement> miniquestsRec = new LinkedHashMap<>();
-		Map<Integer, ItemRequirement> diariesRec = new LinkedHashMap<>();
-
-		questHelperPlugin.getItemRequirements().forEach((qhQuest, reqs) -> {
-			QuestDetails.Type type = qhQuest.getQuestType();
-			if (type == QuestDetails.Type.P2P || type == QuestDetails.Type.F2P)
-			{
-				refinedList(qhQuest.getName(), questsReq, reqs);
-			}
-			else if (type == QuestDetails.Type.MINIQUEST)
-			{
-				refinedList(qhQuest.getName(), miniquestsReq, reqs);
-			}
-			else if (type == QuestDetails.Type.ACHIEVEMENT_DIARY)
-			{
-				refinedList(qhQuest.getName(), diariesReq, reqs);
-			}
-		});
-		questHelperPlugin.getItemRecommended().forEach((qhQuest, reqs) -> {
-			QuestDetails.Type type = qhQuest.getQuestType();
-			if (type == QuestDetails.Type.P2P || type == QuestDetails.Type.F2P)
-			{
-				refinedList(qhQuest.getName(), questsRec, reqs);
-			}
-			else if (type == QuestDetails.Type.MINIQUEST)
-			{
-				refinedList(qhQuest.getName(), miniquestsRec, reqs);
-			}
-			else if (type == QuestDetails.Type.ACHIEVEMENT_DIARY)
-			{
-				refinedList(qhQuest.getName(), diariesRec, reqs);
-			}
-		});
-		if (questsReq.size() > 0)
+		updateAggregates();
+		if (panels != null && panelsStep == step1)
 		{
-			allSteps.add(new PanelDetails("Quests", Collections.emptyList(), new ArrayList<>(questsReq.values()), new ArrayList<>(questsRec.values())));
+			return panels;
 		}
 
-		if (miniquestsReq.size() > 0)
-		{
-			allSteps.add(new PanelDetails("Miniquests", Collections.emptyList(), new ArrayList<>(miniquestsReq.values()), new ArrayList<>(miniquestsRec.values())));
-		}
-
-		if (diariesReq.size() > 0)
+		List<PanelDetails> allSteps = new ArrayList<>();
+		allSteps.add(new PanelDetails("Starting off", Collections.singletonList(step1)));
+		for (Category category : Category.values())
 		{
-			allSteps.add(new PanelDetails("Achievement Diaries", Collections.emptyList(), new ArrayList<>(diariesReq.values()), new ArrayList<>(diariesRec.values())));
+			NeededItemsAggregate required = requiredByCategory.get(category);
+			if (required != null && !required.isEmpty())
+			{
+				NeededItemsAggregate recommended = recommendedByCategory.get(category);
+				List<ItemRequirement> recommendedItems = recommended == null ? Collections.emptyList() : recommended.getItemRequirements();
+				allSteps.add(new PanelDetails(category.panelName, Collections.emptyList(), new ArrayList<>(required.getItemRequirements()),
+					new ArrayList<>(recommendedItems)));
+			}
 		}
 
-		return allSteps;
+		panels = allSteps;
+		panelsStep = step1;
+		return panels;
 	}
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.helpers.mischelpers.allneededitems;
+
+import com.questhelper.requirements.item.ItemRequirement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The items needed across many quests, combined into a single requirement for each item id.
+ * <p>
+ * Each item keeps a running total of the quantity needed and the quests which need it. The requirements themselves,
+ * and their tooltips, are only created when they are first asked for.
+ */
+class NeededItemsAggregate
+{
+	private static class NeededItem
+	{
+		private final String name;
+		private final int id;
+		private int quantity;
+		private final List<String> questNames = new ArrayList<>();
+
+		private NeededItem(String name, int id, int quantity)
+		{
+			this.name = name;
+			this.id = id;
+			this.quantity = quantity;
+		}
+	}
+
+	private final Map<Integer, NeededItem> neededItems = new LinkedHashMap<>();
+
+	private List<ItemRequirement> itemRequirements;
+
+	/**
+	 * Add the items needed for a quest. Consumed items add to the quantity needed for other quests, whilst items which
+	 * are kept only need the quantity of the first quest which needs them.
+	 *
+	 * @param questName the name of the quest
+	 * @param reqs the items needed for the quest
+	 */
+	void add(String questName, List<ItemRequirement> reqs)
+	{
+		// TODO: Rather than an ItemRequirement, shift to an ItemRequirements with each itemreq as an ItemRequirement in it
+		// This would allow for better mixed IDs between items
+		for (ItemRequirement req : reqs)
+		{
+			if (req.getId() == -1)
+			{
+				continue;
+			}
+
+			int quantity = req.getQuantity() == -1 ? 1 : req.getQuantity();
+			NeededItem neededItem = neededItems.get(req.getId());
+			if (neededItem == null)
+			{
+				neededItem = new NeededItem(req.getName(), req.getId(), quantity);
+				neededItems.put(req.getId(), neededItem);
+			}
+			else if (req.isConsumedItem())
+			{
+				neededItem.quantity += quantity;
+			}
+			neededItem.questNames.add(questName);
+		}
+		itemRequirements = null;
+	}
+
+	boolean isEmpty()
+	{
+		return neededItems.isEmpty();
+	}
+
+	/**
+	 * @return an unmodifiable list of a requirement for each item needed, with a tooltip of the quests needing it
+	 */
+	List<ItemRequirement> getItemRequirements()
+	{
+		if (itemRequirements == null)
+		{
+			List<ItemRequirement> newItemRequirements = new ArrayList<>(neededItems.size());
+			for (NeededItem neededItem : neededItems.values())
+			{
+				ItemRequirement itemRequirement = new ItemRequirement(neededItem.name, neededItem.id, neededItem.quantity);
+				itemRequirement.setTooltip("Needed for " + String.join("\n", neededItem.questNames));
+				newItemRequirements.add(itemRequirement);
+			}
+			itemRequirements = Collections.unmodifiableList(newItemRequirements);
+		}
+		return itemRequirements;
+	}
+}
@@ -524,6 +524,11 @@ public class TheHeartOfDarkness extends BasicQuestHelper
         activateStatueRequirements[1] = activatedSecondStatue;
         activateStatueRequirements[2] = activatedThirdStatue;
         activateStatueRequirements[3] = activatedFourthStatue;
+        // The required values are changed as the statues are inspected, so these can't be shared
+        for (VarbitRequirement activateStatueRequirement : activateStatueRequirements)
+        {
+            activateStatueRequirement.setShareable(false);
+        }
 
         // 1651, 9641, 0
         elementalStatueDetails = new ArrayList<>();
@@ -107,8 +107,12 @@ public class HerblorePuzzle extends ConditionalStep
 
 	private Conditions createBaseRequirement(int i)
 	{
-		return or(new VarbitRequirement(StatueLocation.values()[i].getVarbitID(), 3),
-			new VarbitRequirement(StatueLocation.values()[i].getVarbitID(), 35));
+		VarbitRequirement isState3 = new VarbitRequirement(StatueLocation.values()[i].getVarbitID(), 3);
+		VarbitRequirement isState35 = new VarbitRequirement(StatueLocation.values()[i].getVarbitID(), 35);
+		// The conditions are replaced once the puzzle is set up, so these can't be shared
+		isState3.setShareable(false);
+		isState35.setShareable(false);
+		return or(isState3, isState35);
 	}
 
 	@Override
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.managers;
+
+import com.questhelper.requirements.ChatMessageRequirement;
+import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.npc.DialogRequirement;
+import com.questhelper.util.AhoCorasickMatcher;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.client.util.Text;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Matches chat messages against the messages of all active {@link ChatMessageRequirement}s and
+ * {@link DialogRequirement}s at once, so that each chat message is only scanned once and requirements are only
+ * validated against messages which could change them.
+ * <p>
+ * Requirements are registered whilst the steps using them are active, and the matcher is rebuilt when the registered
+ * requirements change. Requirements which aren't registered are always validated.
+ */
+public class ChatMessageMatcher
+{
+	// Number of active users of each requirement
+	private static final Map<Requirement, Integer> registeredRequirements = new IdentityHashMap<>();
+
+	// The patterns of each registered requirement, as indexes into the matcher's patterns
+	private static final Map<Requirement, int[]> requirementPatterns = new IdentityHashMap<>();
+
+	private static AhoCorasickMatcher matcher;
+
+	private static ChatMessage lastChatMessage;
+	private static BitSet lastMatches;
+	private static BitSet lastSanitizedMatches;
+
+	public static void register(Collection<? extends Requirement> requirements)
+	{
+		for (Requirement requirement : requirements)
+		{
+			if (registeredRequirements.merge(requirement, 1, Integer::sum) == 1)
+			{
+				matcher = null;
+			}
+		}
+	}
+
+	public static void unregister(Collection<? extends Requirement> requirements)
+	{
+		for (Requirement requirement : requirements)
+		{
+			Integer count = registeredRequirements.get(requirement);
+			if (count == null)
+			{
+				continue;
+			}
+
+			if (count <= 1)
+			{
+				registeredRequirements.remove(requirement);
+				matcher = null;
+			}
+			else
+			{
+				registeredRequirements.put(requirement, count - 1);
+			}
+		}
+	}
+
+	/**
+	 * @param requirement the requirement to validate
+	 * @param chatMessage the received chat message
+	 * @return true if the chat message could change the state of the requirement
+	 */
+	public static boolean shouldValidate(ChatMessageRequirement requirement, ChatMessage chatMessage)
+	{
+		return requirement.needsAllMessages() || hasMatch(requirement, chatMessage, false);
+	}
+
+	/**
+	 * @param requirement the requirement to validate
+	 * @param chatMessage the received chat message
+	 * @return true if the chat message could change the state of the requirement
+	 */
+	public static boolean shouldValidate(DialogRequirement requirement, ChatMessage chatMessage)
+	{
+		// Dialog requirements ignore all other types of message
+		if (chatMessage.getType() != ChatMessageType.DIALOG)
+		{
+			return false;
+		}
+		return requirement.needsAllMessages() || hasMatch(requirement, chatMessage, true);
+	}
+
+	private static boolean hasMatch(Requirement requirement, ChatMessage chatMessage, boolean sanitize)
+	{
+		if (!registeredRequirements.containsKey(requirement))
+		{
+			return true;
+		}
+
+		if (matcher == null)
+		{
+			rebuild();
+		}
+
+		BitSet matches = getMatches(chatMessage, sanitize);
+		for (int pattern : requirementPatterns.get(requirement))
+		{
+			if (matches.get(pattern))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static BitSet getMatches(ChatMessage chatMessage, boolean sanitize)
+	{
+		if (chatMessage != lastChatMessage)
+		{
+			lastChatMessage = chatMessage;
+			lastMatches = null;
+			lastSanitizedMatches = null;
+		}
+
+		if (sanitize)
+		{
+			if (lastSanitizedMatches == null)
+			{
+				lastSanitizedMatches = matcher.match(Text.sanitize(chatMessage.getMessage()));
+			}
+			return lastSanitizedMatches;
+		}
+
+		if (lastMatches == null)
+		{
+			lastMatches = matcher.match(chatMessage.getMessage());
+		}
+		return lastMatches;
+	}
+
+	private static void rebuild()
+	{
+		List<String> patterns = new ArrayList<>();
+		Map<String, Integer> patternIndexes = new HashMap<>();
+		requirementPatterns.clear();
+
+		for (Requirement requirement : registeredRequirements.keySet())
+		{
+			List<String> triggerMessages = getTriggerMessages(requirement);
+			int[] indexes = new int[triggerMessages.size()];
+			for (int i = 0; i < triggerMessages.size(); i++)
+			{
+				indexes[i] = patternIndexes.computeIfAbsent(triggerMessages.get(i), pattern -> {
+					patterns.add(pattern);
+					return patterns.size() - 1;
+				});
+			}
+			requirementPatterns.put(requirement, indexes);
+		}
+
+		matcher = new AhoCorasickMatcher(patterns);
+		lastChatMessage = null;
+	}
+
+	private static List<String> getTriggerMessages(Requirement requirement)
+	{
+		if (requirement instanceof ChatMessageRequirement)
+		{
+			return ((ChatMessageRequirement) requirement).getTriggerMessages();
+		}
+		else if (requirement instanceof DialogRequirement)
+		{
+			return ((DialogRequirement) requirement).getTriggerMessages();
+		}
+		return new ArrayList<>();
+	}
+}
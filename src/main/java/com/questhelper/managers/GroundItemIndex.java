@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.managers;
+
+import net.runelite.api.Client;
+import net.runelite.api.Scene;
+import net.runelite.api.Tile;
+import net.runelite.api.TileItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps an index of the items on the ground in the scene, by item id and by tile, maintained from item spawn and
+ * despawn events, so that steps and requirements can find ground items without walking every tile in the scene.
+ * <p>
+ * Each stack on the ground is indexed separately, so an id or tile appears once for each stack.
+ */
+public class GroundItemIndex
+{
+	private static final Map<Integer, List<Tile>> tilesByItemId = new HashMap<>();
+
+	private static final Map<Tile, List<Integer>> itemIdsByTile = new HashMap<>();
+
+	/**
+	 * Index all items on the ground in the scene, on all planes. Must be called on the client thread.
+	 *
+	 * @param client the client to read the scene from
+	 */
+	public static void rebuild(Client client)
+	{
+		clear();
+		Scene scene = client.getTopLevelWorldView().getScene();
+		if (scene == null)
+		{
+			return;
+		}
+
+		for (Tile[][] plane : scene.getTiles())
+		{
+			for (Tile[] lineOfTiles : plane)
+			{
+				for (Tile tile : lineOfTiles)
+				{
+					if (tile == null || tile.getGroundItems() == null)
+					{
+						continue;
+					}
+
+					for (TileItem item : tile.getGroundItems())
+					{
+						if (item != null)
+						{
+							addItem(tile, item);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	public static void clear()
+	{
+		tilesByItemId.clear();
+		itemIdsByTile.clear();
+	}
+
+	public static void addItem(Tile tile, TileItem item)
+	{
+		tilesByItemId.computeIfAbsent(item.getId(), id -> new ArrayList<>()).add(tile);
+		itemIdsByTile.computeIfAbsent(tile, t -> new ArrayList<>()).add(item.getId());
+	}
+
+	public static void removeItem(Tile tile, TileItem item)
+	{
+		List<Tile> tiles = tilesByItemId.get(item.getId());
+		if (tiles != null && tiles.remove(tile) && tiles.isEmpty())
+		{
+			tilesByItemId.remove(item.getId());
+		}
+
+		List<Integer> itemIds = itemIdsByTile.get(tile);
+		if (itemIds != null && itemIds.remove((Integer) item.getId()) && itemIds.isEmpty())
+		{
+			itemIdsByTile.remove(tile);
+		}
+	}
+
+	/**
+	 * @param itemId the id of the item to find
+	 * @return the tiles with the item on, on any plane, with a tile appearing once for each stack of the item on it
+	 */
+	public static List<Tile> getTiles(int itemId)
+	{
+		List<Tile> tiles = tilesByItemId.get(itemId);
+		if (tiles == null)
+		{
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(tiles);
+	}
+
+	/**
+	 * @param tile the tile to check
+	 * @return the ids of the items on the tile, with an id appearing once for each stack of the item
+	 */
+	public static List<Integer> getItemIds(Tile tile)
+	{
+		List<Integer> itemIds = itemIdsByTile.get(tile);
+		if (itemIds == null)
+		{
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(itemIds);
+	}
+}
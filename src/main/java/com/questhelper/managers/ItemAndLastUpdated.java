@@ -24,16 +24,17 @@
  */
 package com.questhelper.managers;
 
+import com.questhelper.bank.QuestBankSnapshot;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.item.TrackedContainers;
+import com.questhelper.util.ItemCountMap;
 import lombok.Getter;
 import lombok.Setter;
-import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Item;
 
 import javax.annotation.Nullable;
-import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 
-@Slf4j
 public class ItemAndLastUpdated
 {
     @Getter
@@ -44,40 +45,118 @@ public class ItemAndLastUpdated
     private int lastUpdated = -1;
     private Item[] items;
 
+    // Incremented whenever items is replaced
+    private int itemsVersion = 0;
+
+    /**
+     * The source of the container's items if they are not obtained from {@link #update(int, Item[])}, such as for the
+     * bank and group storage when they are not open.
+     */
     @Setter
-    private Callable<Item[]> specialMethodToObtainItems;
+    private Supplier<QuestBankSnapshot> snapshotSource;
+
+    private ItemCountMap itemCounts = new ItemCountMap();
+
+    // Re-used to build the counts after each update, so that they can be compared with the counts before it
+    private ItemCountMap previousItemCounts = new ItemCountMap();
+
+    // The version of the items or snapshot the counts were built from, or -1 if they have not been built
+    private int itemCountsVersion = -1;
 
     public ItemAndLastUpdated(TrackedContainers containerType)
     {
         this.containerType = containerType;
     }
 
+    /**
+     * Update the items in the container, marking the items which changed in quantity as changed.
+     * Containers with a snapshotSource should be updated after the source of the snapshot has been updated.
+     *
+     * @param updateTick the current game tick
+     * @param items the items now in the container
+     */
     public void update(int updateTick, Item[] items)
     {
+        // A snapshot source will already have changed, so compare against the counts last built from it
+        ItemCountMap countsBefore = snapshotSource != null ? (itemCountsVersion == -1 ? null : itemCounts) : getItemCounts();
         this.lastUpdated = updateTick;
         this.items = items;
+        this.itemsVersion++;
+
+        if (countsBefore == null || !buildItemCounts(previousItemCounts))
+        {
+            itemCountsVersion = -1;
+            RequirementInputTracker.markChanged(RequirementInputs.Type.ITEM_CONTAINERS);
+            return;
+        }
+
+        ItemCountMap countsAfter = previousItemCounts;
+        previousItemCounts = countsBefore;
+        itemCounts = countsAfter;
+
+        RequirementInputTracker.markItemsChanged(new ContainerDelta(containerType, countsBefore.getChangedItemIds(countsAfter)));
     }
 
     /**
      * Get the Items contained within the Tracked Container.
-     * If this instance of ItemAndLastUpdated has a method in specialMethodToObtainItems to obtain the current state of the Container other than
+     * If this instance of ItemAndLastUpdated has a snapshotSource to obtain the current state of the Container other than
      * from the {@link Item}[] items variable, it will use that and return the value.
      *
-     * @return an {@link Item}[] of items currently thought to be in the container.
+     * @return an {@link Item}[] of items currently thought to be in the container. This should not be modified.
      */
     public @Nullable Item[] getItems()
     {
-        if (specialMethodToObtainItems != null)
+        if (snapshotSource != null)
         {
-            try
-            {
-                return specialMethodToObtainItems.call();
-            } catch (Exception e)
+            return snapshotSource.get().getItems();
+        }
+
+        return items;
+    }
+
+    /**
+     * Get the total quantity of each item in the Tracked Container, which is only rebuilt when the container changes.
+     *
+     * @return an {@link ItemCountMap} of the items currently thought to be in the container, or null if unknown
+     */
+    public @Nullable ItemCountMap getItemCounts()
+    {
+        if (itemCountsVersion != getVersion() && !buildItemCounts(itemCounts))
+        {
+            return null;
+        }
+
+        return itemCounts;
+    }
+
+    /**
+     * @return a version which changes whenever the items in the container may have changed
+     */
+    public int getVersion()
+    {
+        return snapshotSource != null ? snapshotSource.get().getVersion() : itemsVersion;
+    }
+
+    private boolean buildItemCounts(ItemCountMap counts)
+    {
+        if (snapshotSource != null)
+        {
+            QuestBankSnapshot snapshot = snapshotSource.get();
+            counts.clear(snapshot.getSize());
+            for (int i = 0; i < snapshot.getSize(); i++)
             {
-                log.warn("Failed to load container from method");
+                counts.add(snapshot.getId(i), snapshot.getQuantity(i));
             }
+            itemCountsVersion = snapshot.getVersion();
+            return true;
         }
 
-        return items;
+        if (items == null)
+        {
+            return false;
+        }
+        counts.rebuild(items);
+        itemCountsVersion = itemsVersion;
+        return true;
     }
 }
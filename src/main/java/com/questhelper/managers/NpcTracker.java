@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.managers;
+
+import net.runelite.api.Client;
+import net.runelite.api.NPC;
+import net.runelite.api.NPCComposition;
+import net.runelite.api.coords.WorldPoint;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps an index of the NPCs in the scene by id, maintained from NPC spawn, despawn and change events, so that
+ * requirements and steps can look up the NPCs they are interested in without iterating every NPC in the scene.
+ * <p>
+ * NPCs whose id depends on a var can change id without an event, so they are re-indexed as soon as any var changes,
+ * marking both their old and new ids as changed. NPCs are also indexed by tile. As NPCs move every tick, this index is rebuilt on the first lookup in
+ * each tick.
+ */
+public class NpcTracker
+{
+	private static final Map<Integer, Set<NPC>> npcsById = new HashMap<>();
+
+	// The id each NPC is indexed under, as its id may have changed by the time it despawns
+	private static final Map<NPC, Integer> trackedIds = new IdentityHashMap<>();
+
+	// NPCs which transform based on a var, and so may have changed id since they were indexed
+	private static final Set<NPC> transformingNpcs = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	private static final Map<WorldPoint, List<NPC>> npcsByTile = new HashMap<>();
+	private static int tileIndexTick = -1;
+	private static boolean tileIndexDirty = true;
+
+	/**
+	 * Index all NPCs currently in the scene. Must be called on the client thread.
+	 *
+	 * @param client the client to read the NPCs from
+	 */
+	public static void rebuild(Client client)
+	{
+		clear();
+		for (NPC npc : client.getTopLevelWorldView().npcs())
+		{
+			addNpc(npc);
+		}
+	}
+
+	public static void clear()
+	{
+		npcsById.clear();
+		trackedIds.clear();
+		transformingNpcs.clear();
+		npcsByTile.clear();
+		tileIndexDirty = true;
+	}
+
+	public static void addNpc(NPC npc)
+	{
+		removeNpc(npc);
+		trackedIds.put(npc, npc.getId());
+		npcsById.computeIfAbsent(npc.getId(), id -> new LinkedHashSet<>()).add(npc);
+		NPCComposition composition = npc.getComposition();
+		if (composition != null && composition.getConfigs() != null)
+		{
+			transformingNpcs.add(npc);
+		}
+		tileIndexDirty = true;
+	}
+
+	public static void removeNpc(NPC npc)
+	{
+		Integer trackedId = trackedIds.remove(npc);
+		if (trackedId == null)
+		{
+			return;
+		}
+		transformingNpcs.remove(npc);
+
+		Set<NPC> npcs = npcsById.get(trackedId);
+		if (npcs != null)
+		{
+			npcs.remove(npc);
+			if (npcs.isEmpty())
+			{
+				npcsById.remove(trackedId);
+			}
+		}
+		tileIndexDirty = true;
+	}
+
+	/**
+	 * Mark that vars have changed, which may have transformed some NPCs into different ids. Any NPCs which have
+	 * transformed are re-indexed straight away, as requirements cached on their NPC ids won't look them up again until
+	 * those ids are marked as changed.
+	 */
+	public static void markVarsChanged()
+	{
+		// Vars change often, so only allocate once an NPC has actually transformed
+		List<NPC> transformedNpcs = null;
+		for (NPC npc : transformingNpcs)
+		{
+			if (trackedIds.get(npc) != npc.getId())
+			{
+				if (transformedNpcs == null)
+				{
+					transformedNpcs = new ArrayList<>();
+				}
+				transformedNpcs.add(npc);
+			}
+		}
+
+		if (transformedNpcs == null)
+		{
+			return;
+		}
+
+		for (NPC npc : transformedNpcs)
+		{
+			int trackedId = trackedIds.get(npc);
+			addNpc(npc);
+			RequirementInputTracker.markNpcChanged(trackedId);
+			RequirementInputTracker.markNpcChanged(npc.getId());
+		}
+	}
+
+	/**
+	 * @param npcId the id of the NPCs to find
+	 * @return the NPCs in the scene with the id, in the order they were seen
+	 */
+	public static Collection<NPC> getNpcs(int npcId)
+	{
+		Set<NPC> npcs = npcsById.get(npcId);
+		if (npcs == null)
+		{
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(npcs);
+	}
+
+	/**
+	 * @param npcId the id of the NPC to find
+	 * @return true if any NPC with the id is in the scene
+	 */
+	public static boolean hasNpc(int npcId)
+	{
+		return npcsById.containsKey(npcId);
+	}
+
+	/**
+	 * Must be called on the client thread.
+	 *
+	 * @param client the client to read NPC locations from
+	 * @param worldPoint the tile to check, in the same coordinates as {@link NPC#getWorldLocation()}
+	 * @return the NPCs currently on the tile
+	 */
+	public static List<NPC> getNpcsOnTile(Client client, WorldPoint worldPoint)
+	{
+		if (tileIndexDirty || tileIndexTick != client.getTickCount())
+		{
+			npcsByTile.clear();
+			for (NPC npc : trackedIds.keySet())
+			{
+				WorldPoint npcLocation = npc.getWorldLocation();
+				if (npcLocation != null)
+				{
+					npcsByTile.computeIfAbsent(npcLocation, wp -> new ArrayList<>()).add(npc);
+				}
+			}
+			tileIndexTick = client.getTickCount();
+			tileIndexDirty = false;
+		}
+
+		return npcsByTile.getOrDefault(worldPoint, Collections.emptyList());
+	}
+}
@@ -27,8 +27,10 @@ package com.questhelper.managers;
 import com.google.inject.Injector;
 import com.questhelper.bank.GroupBank;
 import com.questhelper.bank.QuestBank;
+import com.questhelper.bank.QuestBankSnapshot;
 import com.questhelper.bank.banktab.QuestBankTab;
 import com.questhelper.bank.banktab.QuestHelperBankTagService;
+import com.questhelper.requirements.RequirementInputs;
 import lombok.Getter;
 import net.runelite.api.Client;
 import net.runelite.api.Item;
@@ -38,7 +40,6 @@ import net.runelite.client.eventbus.EventBus;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.List;
 
 @Singleton
 public class QuestBankManager
@@ -105,18 +106,19 @@ public class QuestBankManager
 		questBankTab.shutDown();
 	}
 
-	public List<Item> getBankItems()
+	public QuestBankSnapshot getBankSnapshot()
 	{
-		return questBank.getBankItems();
+		return questBank.getSnapshot();
 	}
 
-	public List<Item> getGroupBankItems()
+	public QuestBankSnapshot getGroupBankSnapshot()
 	{
-		return groupBank.getBankItems();
+		return groupBank.getSnapshot();
 	}
 
 	public void refreshBankTab()
 	{
+		bankTagService.invalidate();
 		questBankTab.refreshBankTab();
 	}
 
@@ -153,6 +155,7 @@ public class QuestBankManager
 	{
 		questBank.updateLocalBank(new Item[]{ });
 		groupBank.updateLocalBank(new Item[]{ });
+		RequirementInputTracker.markChanged(RequirementInputs.Type.ITEM_CONTAINERS);
 	}
 
 
@@ -25,6 +25,7 @@
 package com.questhelper.managers;
 
 import com.questhelper.requirements.item.TrackedContainers;
+import com.questhelper.util.ItemCountMap;
 import lombok.Getter;
 
 import java.util.List;
@@ -48,4 +49,24 @@ public class QuestContainerManager
 
     @Getter
     private final static List<ItemAndLastUpdated> orderedListOfContainers = List.of(equippedData, inventoryData, bankData, potionData, groupStorageData);
+
+    /**
+     * Get the total quantity of an item across all the tracked containers, using the item counts of each container.
+     *
+     * @param itemId the id of the item to count
+     * @return the total quantity of the item, where containers with unknown contents count as empty
+     */
+    public static int getTotalQuantity(int itemId)
+    {
+        int total = 0;
+        for (ItemAndLastUpdated container : orderedListOfContainers)
+        {
+            ItemCountMap itemCounts = container.getItemCounts();
+            if (itemCounts != null)
+            {
+                total += itemCounts.getQuantity(itemId);
+            }
+        }
+        return total;
+    }
 }
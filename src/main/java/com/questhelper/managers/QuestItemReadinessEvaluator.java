@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.managers;
+
+import com.questhelper.questinfo.QuestHelperQuest;
+import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.RequirementInputs;
+import com.questhelper.requirements.item.ItemRequirement;
+import com.questhelper.util.ItemCountMap;
+import net.runelite.api.Client;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Works out whether the items each quest needs are on the player, in the bank, or missing, for many quests at once.
+ * <p>
+ * The item requirements of every quest are compiled into a single table keyed by item id. Each item is counted once
+ * across the tracked containers, and only the items which have changed since the last evaluation are counted again,
+ * along with the requirements and quests which use them.
+ */
+public class QuestItemReadinessEvaluator
+{
+	public enum Readiness
+	{
+		ON_PLAYER,
+		IN_BANK,
+		MISSING
+	}
+
+	private static class CompiledRequirement
+	{
+		private final int questIndex;
+
+		private boolean onPlayer;
+		private boolean anywhere;
+
+		private CompiledRequirement(int questIndex)
+		{
+			this.questIndex = questIndex;
+		}
+	}
+
+	// A plain item requirement, counted straight from the item table
+	private static class CountedRequirement extends CompiledRequirement
+	{
+		private final int[] itemIndexes;
+		private final int quantity;
+		private final boolean charged;
+
+		private CountedRequirement(int questIndex, int[] itemIndexes, int quantity, boolean charged)
+		{
+			super(questIndex);
+			this.itemIndexes = itemIndexes;
+			this.quantity = quantity;
+			this.charged = charged;
+		}
+	}
+
+	// A requirement which decides for itself what matches, such as a group of requirements, or one with additional options
+	private static class CheckedRequirement extends CompiledRequirement
+	{
+		private final ItemRequirement requirement;
+		private final RequirementInputs inputs;
+
+		private CheckedRequirement(int questIndex, ItemRequirement requirement)
+		{
+			super(questIndex);
+			this.requirement = requirement;
+			this.inputs = requirement.getInputs();
+		}
+	}
+
+	private final List<QuestHelperQuest> quests = new ArrayList<>();
+	private final List<List<CompiledRequirement>> requirementsByQuest = new ArrayList<>();
+
+	private int[] itemIds = new int[0];
+	private int[][] requirementsByItem = new int[0][];
+	private int[] onPlayerQuantities = new int[0];
+	private int[] onPlayerCharges = new int[0];
+	private int[] totalQuantities = new int[0];
+	private int[] totalCharges = new int[0];
+
+	private final List<CountedRequirement> countedRequirements = new ArrayList<>();
+	private final List<CheckedRequirement> checkedRequirements = new ArrayList<>();
+
+	private final Map<QuestHelperQuest, Readiness> readiness = new EnumMap<>(QuestHelperQuest.class);
+
+	// The RequirementInputTracker generation of the last evaluation, or -1 if everything needs evaluating
+	private long evaluatedGeneration = -1;
+
+	/**
+	 * Build the item table from the item requirements of each quest, replacing any previously compiled quests.
+	 *
+	 * @param itemRequirements the item requirements needed for each quest
+	 */
+	public void compile(Map<QuestHelperQuest, List<ItemRequirement>> itemRequirements)
+	{
+		quests.clear();
+		requirementsByQuest.clear();
+		countedRequirements.clear();
+		checkedRequirements.clear();
+		readiness.clear();
+		evaluatedGeneration = -1;
+
+		Map<Integer, Integer> itemIndexes = new HashMap<>();
+		List<List<Integer>> requirementsForItems = new ArrayList<>();
+
+		for (Map.Entry<QuestHelperQuest, List<ItemRequirement>> entry : itemRequirements.entrySet())
+		{
+			int questIndex = quests.size();
+			quests.add(entry.getKey());
+			List<CompiledRequirement> questRequirements = new ArrayList<>();
+			requirementsByQuest.add(questRequirements);
+
+			for (ItemRequirement requirement : entry.getValue())
+			{
+				if (requirement == null || !requirement.isActualItem())
+				{
+					continue;
+				}
+
+				// Subclasses can change what counts as a match, and additional options can pass without any items, so both
+				// are left to check themselves
+				if (requirement.getClass() != ItemRequirement.class || requirement.getAdditionalOptions() != null)
+				{
+					CheckedRequirement checked = new CheckedRequirement(questIndex, requirement);
+					checkedRequirements.add(checked);
+					questRequirements.add(checked);
+					continue;
+				}
+
+				List<Integer> ids = requirement.getAllIds();
+				int[] indexes = new int[ids.size()];
+				for (int i = 0; i < ids.size(); i++)
+				{
+					indexes[i] = itemIndexes.computeIfAbsent(ids.get(i), id -> {
+						requirementsForItems.add(new ArrayList<>());
+						return itemIndexes.size();
+					});
+					requirementsForItems.get(indexes[i]).add(countedRequirements.size());
+				}
+				CountedRequirement counted = new CountedRequirement(questIndex, indexes, requirement.getQuantity(), requirement.isChargedItem());
+				countedRequirements.add(counted);
+				questRequirements.add(counted);
+			}
+		}
+
+		int itemCount = itemIndexes.size();
+		itemIds = new int[itemCount];
+		itemIndexes.forEach((id, index) -> itemIds[index] = id);
+		requirementsByItem = new int[itemCount][];
+		for (int i = 0; i < itemCount; i++)
+		{
+			requirementsByItem[i] = requirementsForItems.get(i).stream().mapToInt(Integer::intValue).toArray();
+		}
+		onPlayerQuantities = new int[itemCount];
+		onPlayerCharges = new int[itemCount];
+		totalQuantities = new int[itemCount];
+		totalCharges = new int[itemCount];
+	}
+
+	/**
+	 * Evaluate the readiness of each compiled quest, re-using the previous results for anything whose items have not
+	 * changed since. Must be called on the client thread.
+	 *
+	 * @param client the client to check any additional options of the requirements with
+	 * @return an unmodifiable map of the {@link Readiness} of each compiled quest
+	 */
+	public Map<QuestHelperQuest, Readiness> evaluate(Client client)
+	{
+		long currentGeneration = RequirementInputTracker.getGeneration();
+		if (currentGeneration == evaluatedGeneration)
+		{
+			return Collections.unmodifiableMap(readiness);
+		}
+
+		ItemCountMap equipped = QuestContainerManager.getEquippedData().getItemCounts();
+		ItemCountMap inventory = QuestContainerManager.getInventoryData().getItemCounts();
+		ItemCountMap bank = QuestContainerManager.getBankData().getItemCounts();
+		ItemCountMap potions = QuestContainerManager.getPotionData().getItemCounts();
+		ItemCountMap groupStorage = QuestContainerManager.getGroupStorageData().getItemCounts();
+
+		BitSet changedRequirements = new BitSet(countedRequirements.size());
+		for (int i = 0; i < itemIds.length; i++)
+		{
+			int itemId = itemIds[i];
+			if (evaluatedGeneration >= 0 && !RequirementInputTracker.hasItemChangedSince(itemId, evaluatedGeneration))
+			{
+				continue;
+			}
+
+			onPlayerQuantities[i] = getQuantity(equipped, itemId) + getQuantity(inventory, itemId);
+			onPlayerCharges[i] = getCharges(equipped, itemId) + getCharges(inventory, itemId);
+			totalQuantities[i] = onPlayerQuantities[i] + getQuantity(bank, itemId) + getQuantity(potions, itemId)
+				+ getQuantity(groupStorage, itemId);
+			totalCharges[i] = onPlayerCharges[i] + getCharges(bank, itemId) + getCharges(potions, itemId)
+				+ getCharges(groupStorage, itemId);
+			for (int requirementIndex : requirementsByItem[i])
+			{
+				changedRequirements.set(requirementIndex);
+			}
+		}
+
+		BitSet changedQuests = new BitSet(quests.size());
+		if (evaluatedGeneration < 0)
+		{
+			changedQuests.set(0, quests.size());
+		}
+
+		for (int i = changedRequirements.nextSetBit(0); i >= 0; i = changedRequirements.nextSetBit(i + 1))
+		{
+			CountedRequirement requirement = countedRequirements.get(i);
+			int onPlayer = 0;
+			int total = 0;
+			for (int itemIndex : requirement.itemIndexes)
+			{
+				onPlayer += requirement.charged ? onPlayerCharges[itemIndex] : onPlayerQuantities[itemIndex];
+				total += requirement.charged ? totalCharges[itemIndex] : totalQuantities[itemIndex];
+			}
+			requirement.onPlayer = onPlayer >= requirement.quantity;
+			requirement.anywhere = total >= requirement.quantity;
+			changedQuests.set(requirement.questIndex);
+		}
+
+		for (CheckedRequirement checked : checkedRequirements)
+		{
+			if (evaluatedGeneration >= 0 && !RequirementInputTracker.hasChangedSince(checked.inputs, evaluatedGeneration))
+			{
+				continue;
+			}
+			// As with ItemRequirement#check, passing additional options meets the requirement without any items
+			Requirement additionalOptions = checked.requirement.getAdditionalOptions();
+			if (additionalOptions != null && additionalOptions.check(client))
+			{
+				checked.onPlayer = true;
+				checked.anywhere = true;
+			}
+			else
+			{
+				checked.onPlayer = checked.requirement.checkContainers(QuestContainerManager.getEquippedData(),
+					QuestContainerManager.getInventoryData());
+				checked.anywhere = checked.onPlayer || checked.requirement.checkWithAllContainers();
+			}
+			changedQuests.set(checked.questIndex);
+		}
+
+		if (!changedQuests.isEmpty())
+		{
+			updateReadiness(changedQuests);
+		}
+		evaluatedGeneration = currentGeneration;
+
+		return Collections.unmodifiableMap(readiness);
+	}
+
+	private void updateReadiness(BitSet changedQuests)
+	{
+		for (int i = changedQuests.nextSetBit(0); i >= 0; i = changedQuests.nextSetBit(i + 1))
+		{
+			Readiness questReadiness = Readiness.ON_PLAYER;
+			for (CompiledRequirement requirement : requirementsByQuest.get(i))
+			{
+				if (!requirement.anywhere)
+				{
+					questReadiness = Readiness.MISSING;
+					break;
+				}
+				if (!requirement.onPlayer)
+				{
+					questReadiness = Readiness.IN_BANK;
+				}
+			}
+			readiness.put(quests.get(i), questReadiness);
+		}
+	}
+
+	private static int getQuantity(ItemCountMap counts, int itemId)
+	{
+		return counts == null ? 0 : counts.getQuantity(itemId);
+	}
+
+	private static int getCharges(ItemCountMap counts, int itemId)
+	{
+		return counts == null ? 0 : counts.getCharges(itemId);
+	}
+}
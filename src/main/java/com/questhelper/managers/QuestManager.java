@@ -33,6 +33,7 @@ import com.questhelper.questhelpers.QuestDetails;
 import com.questhelper.questhelpers.QuestHelper;
 import com.questhelper.questinfo.QuestHelperQuest;
 import com.questhelper.requirements.item.ItemRequirement;
+import com.questhelper.requirements.zone.ZoneIndex;
 import com.questhelper.steps.QuestStep;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -97,10 +98,13 @@ public class QuestManager
 	private boolean loadQuestList = false;
 	private QuestHelperPanel panel;
 	private QuestStep lastStep = null;
+	private long questVarGeneration;
+	private boolean completionCheckQueued = false;
 
 	public Map<String, QuestHelper> backgroundHelpers = new HashMap<>();
 	public SortedMap<QuestHelperQuest, List<ItemRequirement>> itemRequirements = new TreeMap<>();
 	public SortedMap<QuestHelperQuest, List<ItemRequirement>> itemRecommended = new TreeMap<>();
+	private final QuestItemReadinessEvaluator itemReadinessEvaluator = new QuestItemReadinessEvaluator();
 
 	/**
 	 * Initializes the QuestManager with the given QuestHelperPanel.
@@ -186,12 +190,25 @@ public class QuestManager
 			return;
 		}
 
-		if (selectedQuest.updateQuest() && selectedQuest.getCurrentStep() == null)
+		// Only the var tracking the quest's progress can change which step a quest is on
+		if (RequirementInputTracker.hasChangedSince(selectedQuest.getVarInputs(), questVarGeneration))
 		{
-			shutDownQuest(true);
+			questVarGeneration = RequirementInputTracker.getGeneration();
+			if (selectedQuest.updateQuest() && selectedQuest.getCurrentStep() == null)
+			{
+				shutDownQuest(true);
+			}
+		}
+
+		// Many vars can change at once, so only queue a single completion check for all of them
+		if (completionCheckQueued)
+		{
+			return;
 		}
 
+		completionCheckQueued = true;
 		clientThread.invokeLater(() -> {
+			completionCheckQueued = false;
 			if ((selectedQuest != null) && selectedQuest.isCompleted())
 			{
 				shutDownQuest(true);
@@ -285,6 +302,10 @@ public class QuestManager
 				questHelperPlugin.displayPanel();
 			}
 			selectedQuest = questHelper;
+			RequirementInputTracker.registerInputs(client, selectedQuest.getVarInputs());
+			questVarGeneration = RequirementInputTracker.getGeneration();
+			// Zones are re-added to the index as the new helper's requirements are checked
+			ZoneIndex.clear();
 			registerQuestToEventBus(selectedQuest);
 			if (isDeveloperMode())
 			{
@@ -495,6 +516,9 @@ public class QuestManager
 			});
 			itemRequirements = newReqs;
 			itemRecommended = newRecommended;
+			itemReadinessEvaluator.compile(newReqs);
+			// Helpers such as the needed items helper build their panels from these, so the bank tab must be rebuilt
+			questBankManager.getBankTagService().invalidate();
 
 			String checkItemsName = QuestHelperQuest.CHECK_ITEMS.getName();
 			if (config.highlightItemsBackground()
@@ -506,6 +530,17 @@ public class QuestManager
 		});
 	}
 
+	/**
+	 * Gets whether the items needed for each unfinished quest with its items highlighted are on the player, in the
+	 * bank, or missing. Must be called on the client thread.
+	 *
+	 * @return the {@link QuestItemReadinessEvaluator.Readiness} of each quest
+	 */
+	public Map<QuestHelperQuest, QuestItemReadinessEvaluator.Readiness> getQuestItemReadiness()
+	{
+		return itemReadinessEvaluator.evaluate(client);
+	}
+
 	/**
 	 * Updates all items for the All Items helper.
 	 */
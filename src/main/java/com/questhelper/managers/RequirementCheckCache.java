@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.managers;
+
+import com.questhelper.requirements.Requirement;
+import lombok.Getter;
+import net.runelite.api.Client;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Caches the results of checking {@link Requirement}s, so that a requirement checked by steps, overlays and panels
+ * is only evaluated once per tick.
+ * <p>
+ * Results are discarded at the start of each tick, and whenever any input tracked by {@link RequirementInputTracker}
+ * changes. Results are only cached on the client thread.
+ */
+public class RequirementCheckCache
+{
+	public enum CheckType
+	{
+		CHECK,
+		CONTAINERS_ON_PLAYER,
+		ALL_CONTAINERS,
+	}
+
+	@Getter
+	private static boolean enabled = true;
+
+	private static long cachedGeneration = -1;
+
+	@SuppressWarnings("unchecked")
+	private static final Map<Requirement, Boolean>[] results = new Map[CheckType.values().length];
+
+	static
+	{
+		for (int i = 0; i < results.length; i++)
+		{
+			results[i] = new IdentityHashMap<>();
+		}
+	}
+
+	/**
+	 * Check a requirement, re-using the result if it has already been checked this tick.
+	 *
+	 * @param client the client to check with
+	 * @param requirement the requirement to check
+	 * @return the result of {@link Requirement#check(Client)}
+	 */
+	public static boolean check(Client client, Requirement requirement)
+	{
+		if (!enabled || !client.isClientThread())
+		{
+			return requirement.check(client);
+		}
+
+		// Avoids creating a supplier, as this is called for every requirement checked
+		Boolean result = getResults(CheckType.CHECK).get(requirement);
+		if (result == null)
+		{
+			result = requirement.check(client);
+			getResults(CheckType.CHECK).put(requirement, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Get a cached result for a requirement, calculating it if it has not already been calculated this tick.
+	 *
+	 * @param client the client, used to ensure results are only cached on the client thread
+	 * @param requirement the requirement the result is for
+	 * @param type the type of check being done
+	 * @param check the check to run if there is no cached result
+	 * @return the result of the check
+	 */
+	public static boolean getOrCheck(Client client, Requirement requirement, CheckType type, BooleanSupplier check)
+	{
+		if (!enabled || !client.isClientThread())
+		{
+			return check.getAsBoolean();
+		}
+
+		Boolean result = getResults(type).get(requirement);
+		if (result == null)
+		{
+			result = check.getAsBoolean();
+			getResults(type).put(requirement, result);
+		}
+		return result;
+	}
+
+	private static Map<Requirement, Boolean> getResults(CheckType type)
+	{
+		if (cachedGeneration != RequirementInputTracker.getGeneration())
+		{
+			clear();
+			cachedGeneration = RequirementInputTracker.getGeneration();
+		}
+		return results[type.ordinal()];
+	}
+
+	public static void setEnabled(boolean enabled)
+	{
+		RequirementCheckCache.enabled = enabled;
+		clear();
+	}
+
+	public static void clear()
+	{
+		for (Map<Requirement, Boolean> typeResults : results)
+		{
+			typeResults.clear();
+		}
+	}
+}
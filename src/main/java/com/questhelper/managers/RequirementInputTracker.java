@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.managers;
+
+import com.questhelper.requirements.RequirementInputs;
+import net.runelite.api.Client;
+import net.runelite.api.VarbitComposition;
+import net.runelite.api.coords.WorldPoint;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Tracks when each type of {@link RequirementInputs} last changed.
+ * <p>
+ * Each change increments a generation counter. A result which was calculated at a given generation is still valid
+ * as long as none of the inputs it depends on have been changed at a later generation.
+ * <p>
+ * Var changes are tracked per varp. Varbits are resolved to the varp which holds them when they are registered
+ * through {@link #registerInputs(Client, RequirementInputs)}, and are otherwise treated as changing whenever any
+ * varbit changes.
+ */
+public class RequirementInputTracker
+{
+	private static long generation = 0;
+
+	// Generation at which everything should be considered changed, such as on scene load
+	private static long allChangedGeneration = 0;
+
+	private static final long[] typeGenerations = new long[RequirementInputs.Type.values().length];
+
+	private static final Map<Integer, Long> npcGenerations = new HashMap<>();
+
+	// Item id -> generation at which the item last changed in quantity in any tracked container
+	private static long[] itemGenerations = new long[32768];
+
+	// Generation at which item containers last changed without knowing which items changed
+	private static long allItemsChangedGeneration = 0;
+
+	private static long[] varpGenerations = new long[4096];
+
+	private static final Map<Integer, Long> varbitGenerations = new HashMap<>();
+
+	// Varbit id -> the varp it is stored in, or -1 if the client does not know of the varbit
+	private static final Map<Integer, Integer> varbitToVarp = new HashMap<>();
+
+	private static WorldPoint lastPlayerLocation;
+
+	public static long getGeneration()
+	{
+		return generation;
+	}
+
+	/**
+	 * @return the generation at which item containers last changed without knowing which items changed
+	 */
+	public static long getAllItemsChangedGeneration()
+	{
+		return allItemsChangedGeneration;
+	}
+
+	public static void markChanged(RequirementInputs.Type type)
+	{
+		typeGenerations[type.ordinal()] = ++generation;
+		if (type == RequirementInputs.Type.ITEM_CONTAINERS)
+		{
+			allItemsChangedGeneration = generation;
+		}
+	}
+
+	/**
+	 * Mark only the items which changed in a container as changed, so that requirements on other items keep their
+	 * results.
+	 *
+	 * @param delta the changes to the container
+	 */
+	public static void markItemsChanged(ContainerDelta delta)
+	{
+		if (delta.isEmpty())
+		{
+			return;
+		}
+
+		typeGenerations[RequirementInputs.Type.ITEM_CONTAINERS.ordinal()] = ++generation;
+		for (int itemId : delta.getChangedItemIds())
+		{
+			if (itemId < 0)
+			{
+				continue;
+			}
+			if (itemId >= itemGenerations.length)
+			{
+				itemGenerations = Arrays.copyOf(itemGenerations, Math.max(itemId + 1, itemGenerations.length * 2));
+			}
+			itemGenerations[itemId] = generation;
+		}
+	}
+
+	/**
+	 * @param sinceGeneration the generation at which a result depending on items was calculated
+	 * @return true if any tracked container may have changed since the given generation
+	 */
+	public static boolean hasAnyItemChangedSince(long sinceGeneration)
+	{
+		return allChangedGeneration > sinceGeneration
+			|| typeGenerations[RequirementInputs.Type.ITEM_CONTAINERS.ordinal()] > sinceGeneration;
+	}
+
+	/**
+	 * @param itemId the id of the item
+	 * @param sinceGeneration the generation at which a result depending on the item was calculated
+	 * @return true if the quantity of the item in any tracked container may have changed since the given generation
+	 */
+	public static boolean hasItemChangedSince(int itemId, long sinceGeneration)
+	{
+		if (!hasAnyItemChangedSince(sinceGeneration))
+		{
+			return false;
+		}
+
+		return allChangedGeneration > sinceGeneration
+			|| allItemsChangedGeneration > sinceGeneration
+			|| getItemGeneration(itemId) > sinceGeneration;
+	}
+
+	public static void markNpcChanged(int npcId)
+	{
+		markChanged(RequirementInputs.Type.NPCS);
+		npcGenerations.put(npcId, generation);
+	}
+
+	/**
+	 * Mark a var as changed, as reported by a {@link net.runelite.api.events.VarbitChanged} event.
+	 *
+	 * @param varpId the id of the varp which changed, or -1
+	 * @param varbitId the id of the varbit which changed, or -1
+	 */
+	public static void markVarChanged(int varpId, int varbitId)
+	{
+		generation++;
+		typeGenerations[RequirementInputs.Type.VARBIT.ordinal()] = generation;
+		typeGenerations[RequirementInputs.Type.VARPLAYER.ordinal()] = generation;
+
+		if (varpId >= 0)
+		{
+			if (varpId >= varpGenerations.length)
+			{
+				varpGenerations = Arrays.copyOf(varpGenerations, Math.max(varpId + 1, varpGenerations.length * 2));
+			}
+			varpGenerations[varpId] = generation;
+		}
+
+		if (varbitId >= 0)
+		{
+			varbitGenerations.put(varbitId, generation);
+		}
+	}
+
+	/**
+	 * Resolve the varp each of the varbits in the inputs is stored in, so that changes to them can be tracked
+	 * individually. Must be called on the client thread.
+	 *
+	 * @param client the client to resolve varbits with
+	 * @param inputs the inputs to register
+	 */
+	public static void registerInputs(Client client, RequirementInputs inputs)
+	{
+		for (Integer varbitId : inputs.getVarbits())
+		{
+			if (!varbitToVarp.containsKey(varbitId))
+			{
+				varbitToVarp.put(varbitId, resolveVarp(client, varbitId));
+			}
+		}
+	}
+
+	/**
+	 * Check whether a {@link net.runelite.api.events.VarbitChanged} event may have changed the value of a varbit.
+	 *
+	 * @param client the client to resolve the varbit with
+	 * @param varbitId the varbit of interest
+	 * @param varpId the varp id of the event
+	 * @param changedVarbitId the varbit id of the event
+	 * @return true if the varbit may have changed
+	 */
+	public static boolean isVarbitChange(Client client, int varbitId, int varpId, int changedVarbitId)
+	{
+		if (changedVarbitId == varbitId)
+		{
+			return true;
+		}
+
+		Integer varp = varbitToVarp.get(varbitId);
+		if (varp == null)
+		{
+			varp = resolveVarp(client, varbitId);
+			varbitToVarp.put(varbitId, varp);
+		}
+		return varp == -1 || varp == varpId;
+	}
+
+	private static int resolveVarp(Client client, int varbitId)
+	{
+		VarbitComposition varbit = client.getVarbit(varbitId);
+		return varbit == null ? -1 : varbit.getIndex();
+	}
+
+	public static void markAllChanged()
+	{
+		allChangedGeneration = ++generation;
+		npcGenerations.clear();
+		lastPlayerLocation = null;
+	}
+
+	/**
+	 * Update the known location of the player, marking {@link RequirementInputs.Type#PLAYER_LOCATION} as changed if it has moved.
+	 *
+	 * @param location the player's current location, considering instances
+	 */
+	public static void updatePlayerLocation(WorldPoint location)
+	{
+		if (!Objects.equals(location, lastPlayerLocation))
+		{
+			lastPlayerLocation = location;
+			markChanged(RequirementInputs.Type.PLAYER_LOCATION);
+		}
+	}
+
+	/**
+	 * @param inputs the inputs to check
+	 * @param sinceGeneration the generation at which a result depending on the inputs was calculated
+	 * @return true if any of the inputs have changed since the given generation
+	 */
+	public static boolean hasChangedSince(RequirementInputs inputs, long sinceGeneration)
+	{
+		if (inputs.isUnknown() || allChangedGeneration > sinceGeneration)
+		{
+			return true;
+		}
+
+		for (RequirementInputs.Type type : inputs.getTypes())
+		{
+			if (type == RequirementInputs.Type.NPCS && !inputs.getNpcs().isEmpty())
+			{
+				for (Integer npcId : inputs.getNpcs())
+				{
+					if (npcGenerations.getOrDefault(npcId, 0L) > sinceGeneration)
+					{
+						return true;
+					}
+				}
+			}
+			else if (type == RequirementInputs.Type.ITEM_CONTAINERS && !inputs.getItems().isEmpty())
+			{
+				for (Integer itemId : inputs.getItems())
+				{
+					if (hasItemChangedSince(itemId, sinceGeneration))
+					{
+						return true;
+					}
+				}
+			}
+			else if (type == RequirementInputs.Type.VARBIT && !inputs.getVarbits().isEmpty())
+			{
+				for (Integer varbitId : inputs.getVarbits())
+				{
+					if (hasVarbitChangedSince(varbitId, sinceGeneration))
+					{
+						return true;
+					}
+				}
+			}
+			else if (type == RequirementInputs.Type.VARPLAYER && !inputs.getVarplayers().isEmpty())
+			{
+				for (Integer varpId : inputs.getVarplayers())
+				{
+					if (getVarpGeneration(varpId) > sinceGeneration)
+					{
+						return true;
+					}
+				}
+			}
+			else if (typeGenerations[type.ordinal()] > sinceGeneration)
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean hasVarbitChangedSince(int varbitId, long sinceGeneration)
+	{
+		if (varbitGenerations.getOrDefault(varbitId, 0L) > sinceGeneration)
+		{
+			return true;
+		}
+
+		Integer varpId = varbitToVarp.get(varbitId);
+		if (varpId == null || varpId == -1)
+		{
+			return typeGenerations[RequirementInputs.Type.VARBIT.ordinal()] > sinceGeneration;
+		}
+		return getVarpGeneration(varpId) > sinceGeneration;
+	}
+
+	private static long getItemGeneration(int itemId)
+	{
+		return itemId >= 0 && itemId < itemGenerations.length ? itemGenerations[itemId] : 0;
+	}
+
+	private static long getVarpGeneration(int varpId)
+	{
+		return varpId >= 0 && varpId < varpGenerations.length ? varpGenerations[varpId] : 0;
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.managers;
+
+import com.questhelper.QuestHelperConfig;
+import com.questhelper.requirements.RequirementInputs;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.events.ConfigChanged;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Holds the RuneScape profile config values of {@link com.questhelper.requirements.runelite.RuneliteRequirement}s
+ * in memory.
+ * <p>
+ * Values are read from the {@link ConfigManager} the first time they are needed, and writes only update the
+ * in-memory value if it actually changes. Changed values are written to the {@link ConfigManager} together when
+ * {@link #flush(ConfigManager)} is called, which happens at the end of each game tick, on logout, and on shutdown.
+ */
+public class RuneliteConfigCache
+{
+	private static final String CONFIG_GROUP = QuestHelperConfig.QUEST_BACKGROUND_GROUP;
+
+	// Key -> value for the current profile. Keys with no value in config are stored with a null value.
+	private static final Map<String, String> values = new HashMap<>();
+
+	// Profile -> key -> value, for values which have changed but not yet been written
+	private static final Map<String, Map<String, String>> pendingWrites = new LinkedHashMap<>();
+
+	/**
+	 * @param configManager the config manager to read the value from if it isn't already known
+	 * @param key the key of the value
+	 * @return the value for the current profile, or null if there is none
+	 */
+	public static synchronized String get(ConfigManager configManager, String key)
+	{
+		if (!values.containsKey(key))
+		{
+			values.put(key, configManager.getRSProfileConfiguration(CONFIG_GROUP, key));
+		}
+		return values.get(key);
+	}
+
+	/**
+	 * Set a value for the current profile. The value is written to config on the next {@link #flush(ConfigManager)}.
+	 *
+	 * @param configManager the config manager the value will be written to
+	 * @param key the key of the value
+	 * @param value the new value
+	 */
+	public static synchronized void set(ConfigManager configManager, String key, String value)
+	{
+		String profile = configManager.getRSProfileKey();
+		if (profile == null || Objects.equals(get(configManager, key), value))
+		{
+			return;
+		}
+
+		values.put(key, value);
+		pendingWrites.computeIfAbsent(profile, p -> new LinkedHashMap<>()).put(key, value);
+		RequirementInputTracker.markChanged(RequirementInputs.Type.CONFIG);
+	}
+
+	/**
+	 * Write all changed values to config, each to the profile which was active when it was set.
+	 *
+	 * @param configManager the config manager to write to
+	 */
+	public static void flush(ConfigManager configManager)
+	{
+		Map<String, Map<String, String>> writes;
+		synchronized (RuneliteConfigCache.class)
+		{
+			if (pendingWrites.isEmpty())
+			{
+				return;
+			}
+			writes = new LinkedHashMap<>(pendingWrites);
+			pendingWrites.clear();
+		}
+
+		// Written outside the lock, as each write posts a ConfigChanged event
+		writes.forEach((profile, profileWrites) -> profileWrites.forEach((key, value) -> {
+			if (value == null)
+			{
+				configManager.unsetConfiguration(CONFIG_GROUP, profile, key);
+			}
+			else
+			{
+				configManager.setConfiguration(CONFIG_GROUP, profile, key, value);
+			}
+		}));
+	}
+
+	/**
+	 * Drop the values of the previous profile. Writes which haven't been flushed yet are kept.
+	 */
+	public static synchronized void clear()
+	{
+		values.clear();
+		RequirementInputTracker.markChanged(RequirementInputs.Type.CONFIG);
+	}
+
+	/**
+	 * Keep the in-memory values up to date with changes made to config by anything else.
+	 *
+	 * @param configManager the config manager which the change was made in
+	 * @param event the config change
+	 */
+	public static synchronized void handleConfigChanged(ConfigManager configManager, ConfigChanged event)
+	{
+		if (!CONFIG_GROUP.equals(event.getGroup()) || !values.containsKey(event.getKey()))
+		{
+			return;
+		}
+
+		String profile = event.getProfile();
+		if (profile != null && !profile.equals(configManager.getRSProfileKey()))
+		{
+			return;
+		}
+
+		Map<String, String> profileWrites = profile == null ? null : pendingWrites.get(profile);
+		if (profileWrites != null && profileWrites.containsKey(event.getKey()))
+		{
+			// A newer value is waiting to be written
+			return;
+		}
+
+		if (!Objects.equals(values.get(event.getKey()), event.getNewValue()))
+		{
+			values.put(event.getKey(), event.getNewValue());
+			RequirementInputTracker.markChanged(RequirementInputs.Type.CONFIG);
+		}
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.managers;
+
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.ObjectComposition;
+import net.runelite.api.Point;
+import net.runelite.api.Scene;
+import net.runelite.api.Tile;
+import net.runelite.api.TileObject;
+import net.runelite.api.coords.LocalPoint;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * Keeps an index of the objects in the scene by id and by tile, maintained from object spawn and despawn events, so
+ * that steps and requirements can look up the objects they are interested in without walking every tile in the scene.
+ * <p>
+ * Objects which can transform based on a var keep their own id, so are also kept separately for steps to check which
+ * object they currently appear as.
+ */
+public class SceneObjectIndex
+{
+	private static final Map<Integer, Set<TileObject>> objectsById = new HashMap<>();
+
+	private static final Map<Integer, List<TileObject>> objectsByTile = new HashMap<>();
+
+	// Objects with impostors, which may currently appear as a different object to their id
+	private static final Set<TileObject> transformingObjects = new LinkedHashSet<>();
+
+	/**
+	 * Index all objects currently in the scene, on all planes. Must be called on the client thread.
+	 *
+	 * @param client the client to read the scene from
+	 */
+	public static void rebuild(Client client)
+	{
+		clear();
+		Scene scene = client.getTopLevelWorldView().getScene();
+		if (scene == null)
+		{
+			return;
+		}
+
+		for (Tile[][] plane : scene.getTiles())
+		{
+			for (Tile[] lineOfTiles : plane)
+			{
+				for (Tile tile : lineOfTiles)
+				{
+					if (tile == null)
+					{
+						continue;
+					}
+
+					for (GameObject object : tile.getGameObjects())
+					{
+						addObject(client, object);
+					}
+					addObject(client, tile.getDecorativeObject());
+					addObject(client, tile.getGroundObject());
+					addObject(client, tile.getWallObject());
+				}
+			}
+		}
+	}
+
+	public static void clear()
+	{
+		objectsById.clear();
+		objectsByTile.clear();
+		transformingObjects.clear();
+	}
+
+	/**
+	 * Must be called on the client thread.
+	 *
+	 * @param client the client to read the object's definition from
+	 * @param object the object to add, which may be null
+	 */
+	public static void addObject(Client client, TileObject object)
+	{
+		if (object == null || !objectsById.computeIfAbsent(object.getId(), id -> new LinkedHashSet<>()).add(object))
+		{
+			return;
+		}
+
+		forEachTileKey(object, key -> objectsByTile.computeIfAbsent(key, k -> new ArrayList<>()).add(object));
+
+		ObjectComposition composition = client.getObjectDefinition(object.getId());
+		if (composition != null && composition.getImpostorIds() != null)
+		{
+			transformingObjects.add(object);
+		}
+	}
+
+	public static void removeObject(TileObject object)
+	{
+		if (object == null)
+		{
+			return;
+		}
+
+		Set<TileObject> objects = objectsById.get(object.getId());
+		if (objects == null || !objects.remove(object))
+		{
+			return;
+		}
+		if (objects.isEmpty())
+		{
+			objectsById.remove(object.getId());
+		}
+
+		forEachTileKey(object, key -> {
+			List<TileObject> tileObjects = objectsByTile.get(key);
+			if (tileObjects != null)
+			{
+				tileObjects.remove(object);
+				if (tileObjects.isEmpty())
+				{
+					objectsByTile.remove(key);
+				}
+			}
+		});
+		transformingObjects.remove(object);
+	}
+
+	/**
+	 * @param objectId the id of the objects to find
+	 * @return the objects in the scene with the id, on any plane, in the order they were seen
+	 */
+	public static Collection<TileObject> getObjects(int objectId)
+	{
+		Set<TileObject> objects = objectsById.get(objectId);
+		if (objects == null)
+		{
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(objects);
+	}
+
+	/**
+	 * @return the objects in the scene with impostors, which may currently appear as a different object to their id
+	 */
+	public static Collection<TileObject> getTransformingObjects()
+	{
+		return Collections.unmodifiableSet(transformingObjects);
+	}
+
+	/**
+	 * @param plane the plane of the tile
+	 * @param sceneX the scene x coordinate of the tile
+	 * @param sceneY the scene y coordinate of the tile
+	 * @return the objects on the tile, including game objects which cover it but start on another tile
+	 */
+	public static List<TileObject> getObjectsOnTile(int plane, int sceneX, int sceneY)
+	{
+		List<TileObject> objects = objectsByTile.get(tileKey(plane, sceneX, sceneY));
+		if (objects == null)
+		{
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(objects);
+	}
+
+	// Game objects can cover several tiles, and are found on each of them when walking the scene
+	private static void forEachTileKey(TileObject object, IntConsumer consumer)
+	{
+		if (object instanceof GameObject)
+		{
+			GameObject gameObject = (GameObject) object;
+			Point min = gameObject.getSceneMinLocation();
+			Point max = gameObject.getSceneMaxLocation();
+			for (int x = min.getX(); x <= max.getX(); x++)
+			{
+				for (int y = min.getY(); y <= max.getY(); y++)
+				{
+					consumer.accept(tileKey(object.getPlane(), x, y));
+				}
+			}
+			return;
+		}
+
+		LocalPoint localPoint = object.getLocalLocation();
+		consumer.accept(tileKey(object.getPlane(), localPoint.getSceneX(), localPoint.getSceneY()));
+	}
+
+	private static int tileKey(int plane, int sceneX, int sceneY)
+	{
+		return (plane << 16) | ((sceneX & 0xFF) << 8) | (sceneY & 0xFF);
+	}
+}
@@ -67,6 +67,7 @@ public abstract class BasicQuestHelper extends QuestHelper
 		steps = loadSteps();
 		this.config = config;
 		instantiateSteps(steps.values());
+		shareRequirements(steps.values());
 		var = getVar();
 		startUpStep(steps.get(var));
 	}
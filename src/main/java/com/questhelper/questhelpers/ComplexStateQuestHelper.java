@@ -26,6 +26,7 @@ package com.questhelper.questhelpers;
 
 import com.questhelper.QuestHelperConfig;
 import com.questhelper.panel.PanelDetails;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.steps.QuestStep;
 
 import java.util.ArrayList;
@@ -52,6 +53,7 @@ public abstract class ComplexStateQuestHelper extends QuestHelper
 		step = loadStep();
 		this.config = config;
 		instantiateSteps(Collections.singletonList(step));
+		shareRequirements(Collections.singletonList(step));
 		var = getVar();
 		startUpStep(step);
 	}
@@ -69,6 +71,13 @@ public abstract class ComplexStateQuestHelper extends QuestHelper
 		return true;
 	}
 
+	@Override
+	public RequirementInputs getVarInputs()
+	{
+		// The current step is always re-checked, as it isn't determined by a single var
+		return RequirementInputs.UNKNOWN;
+	}
+
 	public List<PanelDetails> getPanels()
 	{
 		return new ArrayList<>();
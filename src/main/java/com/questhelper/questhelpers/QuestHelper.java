@@ -36,13 +36,17 @@ import com.questhelper.questinfo.ExternalQuestResources;
 import com.questhelper.questinfo.HelperConfig;
 import com.questhelper.questinfo.QuestHelperQuest;
 import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.item.ItemRequirement;
+import com.questhelper.requirements.util.RequirementInterner;
 import com.questhelper.rewards.*;
 import com.questhelper.runeliteobjects.extendedruneliteobjects.RuneliteObjectManager;
+import com.questhelper.steps.ConditionalStep;
 import com.questhelper.steps.OwnerStep;
 import com.questhelper.steps.QuestStep;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.QuestState;
 import net.runelite.client.config.ConfigManager;
@@ -58,6 +62,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
+@Slf4j
 public abstract class QuestHelper implements Module, QuestDebugRenderer
 {
 	@Inject
@@ -157,6 +162,34 @@ public abstract class QuestHelper implements Module, QuestDebugRenderer
 		}
 	}
 
+	/**
+	 * Replace structurally equal conditions used by the steps with a single shared instance, so that each is only
+	 * evaluated once however many steps use it.
+	 *
+	 * @param steps the steps to share the conditions of
+	 */
+	protected void shareRequirements(Collection<QuestStep> steps)
+	{
+		RequirementInterner interner = new RequirementInterner();
+		shareRequirements(interner, steps);
+		log.debug("{} shared {} duplicate requirements", getQuest().getName(), interner.getDeduplicatedCount());
+	}
+
+	private void shareRequirements(RequirementInterner interner, Collection<QuestStep> steps)
+	{
+		for (QuestStep step : steps)
+		{
+			if (step instanceof ConditionalStep)
+			{
+				((ConditionalStep) step).shareConditions(interner);
+			}
+			if (step instanceof OwnerStep)
+			{
+				shareRequirements(interner, ((OwnerStep) step).getSteps());
+			}
+		}
+	}
+
 	public void instantiateStep(QuestStep questStep)
 	{
 		try
@@ -221,6 +254,22 @@ public abstract class QuestHelper implements Module, QuestDebugRenderer
 		return quest.getVar(client);
 	}
 
+	/**
+	 * @return the {@link RequirementInputs} which {@link #updateQuest()} depends on
+	 */
+	public RequirementInputs getVarInputs()
+	{
+		return quest.getVarInputs();
+	}
+
+	/**
+	 * @return the game state which this helper's loaded steps and requirements depend on
+	 */
+	public QuestHelperDependencies getDependencies()
+	{
+		return QuestHelperDependencyAnalyzer.analyze(this);
+	}
+
 	public void makeWorldOverlayHint(Graphics2D graphics, QuestHelperPlugin plugin)
 	{
 
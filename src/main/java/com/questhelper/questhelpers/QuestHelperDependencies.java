@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.questhelpers;
+
+import com.questhelper.requirements.item.TrackedContainers;
+import com.questhelper.requirements.zone.Zone;
+import lombok.Getter;
+import net.runelite.api.widgets.WidgetUtil;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * The game state which a {@link QuestHelper}'s steps and requirements depend on, as found by
+ * {@link QuestHelperDependencyAnalyzer}.
+ */
+@Getter
+public class QuestHelperDependencies
+{
+	private final String helperName;
+
+	private final Set<Integer> varbits = new TreeSet<>();
+	private final Set<Integer> varplayers = new TreeSet<>();
+
+	// Packed component ids
+	private final Set<Integer> widgets = new TreeSet<>();
+	private final Set<TrackedContainers> containers = EnumSet.noneOf(TrackedContainers.class);
+	private final Set<Integer> itemIds = new TreeSet<>();
+	private final Set<Zone> zones = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final Set<Integer> npcIds = new TreeSet<>();
+	private final Set<Integer> objectIds = new TreeSet<>();
+	private final Set<String> chatPatterns = new LinkedHashSet<>();
+
+	// Type of step or requirement -> how many scan the whole scene
+	private final Map<String, Integer> sceneScans = new TreeMap<>();
+
+	// Type of requirement -> how many can't describe their inputs, and so are re-checked every time
+	private final Map<String, Integer> unknownInputs = new TreeMap<>();
+
+	int stepCount;
+	int requirementCount;
+
+	public QuestHelperDependencies(String helperName)
+	{
+		this.helperName = helperName;
+	}
+
+	/**
+	 * @return the number of steps and requirements which either scan the scene or are always re-checked
+	 */
+	public int getCostlyCount()
+	{
+		return sceneScans.values().stream().mapToInt(Integer::intValue).sum()
+			+ unknownInputs.values().stream().mapToInt(Integer::intValue).sum();
+	}
+
+	public String getSummary()
+	{
+		return String.format("%s: %d steps, %d requirements, %d varbits, %d varps, %d widgets, %d items, %d zones, " +
+				"%d npcs, %d objects, %d chat patterns, %d scene scans, %d with unknown inputs",
+			helperName, stepCount, requirementCount, varbits.size(), varplayers.size(), widgets.size(), itemIds.size(),
+			zones.size(), npcIds.size(), objectIds.size(), chatPatterns.size(),
+			sceneScans.values().stream().mapToInt(Integer::intValue).sum(),
+			unknownInputs.values().stream().mapToInt(Integer::intValue).sum());
+	}
+
+	@Override
+	public String toString()
+	{
+		return getSummary() + "\n" +
+			"varbits: " + varbits + "\n" +
+			"varps: " + varplayers + "\n" +
+			"widgets: " + widgets.stream()
+				.map(id -> WidgetUtil.componentToInterface(id) + ":" + WidgetUtil.componentToId(id))
+				.collect(Collectors.joining(", ", "[", "]")) + "\n" +
+			"containers: " + containers + "\n" +
+			"items: " + itemIds + "\n" +
+			"npcs: " + npcIds + "\n" +
+			"objects: " + objectIds + "\n" +
+			"chat patterns: " + chatPatterns + "\n" +
+			"scene scans: " + sceneScans + "\n" +
+			"unknown inputs: " + unknownInputs;
+	}
+}
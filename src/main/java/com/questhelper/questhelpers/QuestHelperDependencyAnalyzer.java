@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.questhelpers;
+
+import com.questhelper.panel.PanelDetails;
+import com.questhelper.requirements.ChatMessageRequirement;
+import com.questhelper.requirements.ComplexRequirement;
+import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.RequirementInputs;
+import com.questhelper.requirements.conditional.InitializableRequirement;
+import com.questhelper.requirements.conditional.NpcCondition;
+import com.questhelper.requirements.conditional.ObjectCondition;
+import com.questhelper.requirements.item.FollowerItemRequirement;
+import com.questhelper.requirements.item.ItemOnTileConsideringSceneLoadRequirement;
+import com.questhelper.requirements.item.ItemRequirement;
+import com.questhelper.requirements.item.ItemRequirements;
+import com.questhelper.requirements.item.TrackedContainers;
+import com.questhelper.requirements.npc.DialogRequirement;
+import com.questhelper.requirements.npc.FollowerRequirement;
+import com.questhelper.requirements.npc.NpcInteractingRequirement;
+import com.questhelper.requirements.npc.NpcInteractingWithNpcRequirement;
+import com.questhelper.requirements.npc.NpcRequirement;
+import com.questhelper.requirements.runelite.RuneliteRequirement;
+import com.questhelper.requirements.widget.WidgetPresenceRequirement;
+import com.questhelper.requirements.widget.WidgetTextRequirement;
+import com.questhelper.requirements.zone.ZoneRequirement;
+import com.questhelper.steps.ConditionalStep;
+import com.questhelper.steps.DetailedQuestStep;
+import com.questhelper.steps.MultiNpcStep;
+import com.questhelper.steps.NpcStep;
+import com.questhelper.steps.ObjectStep;
+import com.questhelper.steps.OwnerStep;
+import com.questhelper.steps.QuestStep;
+import com.questhelper.steps.widget.AbstractWidgetHighlight;
+import com.questhelper.steps.widget.WidgetHighlight;
+import net.runelite.api.widgets.WidgetUtil;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Walks a {@link QuestHelper}'s steps, panels and requirements to find all the game state it depends on.
+ * <p>
+ * This only reads the steps and requirements, so the helper's steps must already have been loaded, such as through
+ * {@link QuestHelper#init()}.
+ */
+public class QuestHelperDependencyAnalyzer
+{
+	// Requirements which search the whole scene each time they are checked
+	private static final List<Class<?>> SCENE_SCANNING_REQUIREMENTS = Arrays.asList(
+		ItemOnTileConsideringSceneLoadRequirement.class,
+		NpcInteractingRequirement.class,
+		NpcInteractingWithNpcRequirement.class,
+		FollowerRequirement.class,
+		FollowerItemRequirement.class
+	);
+
+	private final QuestHelperDependencies dependencies;
+	private final Set<QuestStep> visitedSteps = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final Set<Requirement> visitedRequirements = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	private QuestHelperDependencyAnalyzer(String helperName)
+	{
+		this.dependencies = new QuestHelperDependencies(helperName);
+	}
+
+	/**
+	 * @param questHelper the helper to analyze, with its steps loaded
+	 * @return the dependencies of the helper
+	 */
+	public static QuestHelperDependencies analyze(QuestHelper questHelper)
+	{
+		QuestHelperDependencyAnalyzer analyzer = new QuestHelperDependencyAnalyzer(questHelper.getQuest().getName());
+
+		RequirementInputs varInputs = questHelper.getVarInputs();
+		analyzer.dependencies.getVarbits().addAll(varInputs.getVarbits());
+		analyzer.dependencies.getVarplayers().addAll(varInputs.getVarplayers());
+
+		if (questHelper instanceof BasicQuestHelper && ((BasicQuestHelper) questHelper).getStepList() != null)
+		{
+			analyzer.visitSteps(((BasicQuestHelper) questHelper).getStepList().values());
+		}
+		else if (questHelper instanceof ComplexStateQuestHelper)
+		{
+			analyzer.visitStep(((ComplexStateQuestHelper) questHelper).step);
+		}
+
+		List<PanelDetails> panels = questHelper.getPanels();
+		if (panels != null)
+		{
+			for (PanelDetails panel : panels)
+			{
+				analyzer.visitSteps(panel.getSteps());
+				analyzer.visitStep(panel.getLockingQuestSteps());
+				analyzer.visitRequirement(panel.getHideCondition());
+				analyzer.visitRequirements(panel.getRequirements());
+				analyzer.visitRequirements(panel.getRecommended());
+			}
+		}
+
+		analyzer.visitRequirements(questHelper.getItemRequirements());
+		analyzer.visitRequirements(questHelper.getItemRecommended());
+		analyzer.visitRequirements(questHelper.getGeneralRequirements());
+		analyzer.visitRequirements(questHelper.getGeneralRecommended());
+
+		return analyzer.dependencies;
+	}
+
+	private void visitSteps(Collection<QuestStep> steps)
+	{
+		if (steps == null)
+		{
+			return;
+		}
+
+		for (QuestStep step : steps)
+		{
+			visitStep(step);
+		}
+	}
+
+	private void visitStep(QuestStep step)
+	{
+		if (step == null || !visitedSteps.add(step))
+		{
+			return;
+		}
+		dependencies.stepCount++;
+
+		visitRequirement(step.getConditionToHide());
+		visitRequirement(step.getLockingCondition());
+		for (AbstractWidgetHighlight widgetHighlight : step.getWidgetsToHighlight())
+		{
+			if (widgetHighlight instanceof WidgetHighlight)
+			{
+				dependencies.getWidgets().add(((WidgetHighlight) widgetHighlight).getInterfaceID());
+			}
+		}
+		visitSteps(step.getSubsteps());
+
+		if (step instanceof DetailedQuestStep)
+		{
+			DetailedQuestStep detailedStep = (DetailedQuestStep) step;
+			visitRequirements(detailedStep.getRequirements());
+			visitRequirements(detailedStep.getRecommended());
+			visitRequirements(detailedStep.getTeleport());
+		}
+
+		if (step instanceof NpcStep)
+		{
+			dependencies.getNpcIds().addAll(((NpcStep) step).allIds());
+			if (step instanceof MultiNpcStep)
+			{
+				addSceneScan(step);
+			}
+		}
+		else if (step instanceof ObjectStep)
+		{
+			dependencies.getObjectIds().addAll(((ObjectStep) step).allIds());
+		}
+
+		if (step instanceof ConditionalStep)
+		{
+			visitRequirements(((ConditionalStep) step).getConditions());
+		}
+		if (step instanceof OwnerStep)
+		{
+			visitSteps(((OwnerStep) step).getSteps());
+		}
+	}
+
+	private void visitRequirements(Collection<? extends Requirement> requirements)
+	{
+		if (requirements == null)
+		{
+			return;
+		}
+
+		for (Requirement requirement : requirements)
+		{
+			visitRequirement(requirement);
+		}
+	}
+
+	private void visitRequirement(Requirement requirement)
+	{
+		if (requirement == null || !visitedRequirements.add(requirement))
+		{
+			return;
+		}
+		dependencies.requirementCount++;
+
+		RequirementInputs inputs = requirement.getInputs();
+		if (inputs.isUnknown())
+		{
+			dependencies.getUnknownInputs().merge(getTypeName(requirement), 1, Integer::sum);
+		}
+		else
+		{
+			dependencies.getVarbits().addAll(inputs.getVarbits());
+			dependencies.getVarplayers().addAll(inputs.getVarplayers());
+			dependencies.getNpcIds().addAll(inputs.getNpcs());
+		}
+
+		for (Class<?> sceneScanningRequirement : SCENE_SCANNING_REQUIREMENTS)
+		{
+			if (sceneScanningRequirement.isInstance(requirement))
+			{
+				addSceneScan(requirement);
+				break;
+			}
+		}
+
+		if (requirement instanceof ZoneRequirement)
+		{
+			dependencies.getZones().addAll(((ZoneRequirement) requirement).getZones());
+		}
+		else if (requirement instanceof ItemRequirement)
+		{
+			visitItemRequirement((ItemRequirement) requirement);
+		}
+		else if (requirement instanceof NpcCondition)
+		{
+			NpcCondition npcCondition = (NpcCondition) requirement;
+			dependencies.getNpcIds().add(npcCondition.getNpcID());
+			if (npcCondition.getZone() != null)
+			{
+				dependencies.getZones().add(npcCondition.getZone());
+			}
+		}
+		else if (requirement instanceof NpcRequirement)
+		{
+			dependencies.getNpcIds().add(((NpcRequirement) requirement).getNpcID());
+		}
+		else if (requirement instanceof ObjectCondition)
+		{
+			ObjectCondition objectCondition = (ObjectCondition) requirement;
+			dependencies.getObjectIds().addAll(objectCondition.getObjectIDs());
+			// Specific objects are looked up from the SceneObjectIndex, but any object (-1) still checks every tile
+			if (objectCondition.getObjectIDs().contains(-1))
+			{
+				addSceneScan(requirement);
+			}
+			if (objectCondition.getZone() != null)
+			{
+				dependencies.getZones().add(objectCondition.getZone());
+			}
+		}
+		else if (requirement instanceof ChatMessageRequirement)
+		{
+			dependencies.getChatPatterns().addAll(((ChatMessageRequirement) requirement).getTriggerMessages());
+			visitRequirement(((ChatMessageRequirement) requirement).getCondition());
+		}
+		else if (requirement instanceof DialogRequirement)
+		{
+			dependencies.getChatPatterns().addAll(((DialogRequirement) requirement).getTriggerMessages());
+		}
+		else if (requirement instanceof WidgetTextRequirement)
+		{
+			WidgetTextRequirement widgetRequirement = (WidgetTextRequirement) requirement;
+			dependencies.getWidgets().add(WidgetUtil.packComponentId(widgetRequirement.getGroupId(), widgetRequirement.getChildId()));
+		}
+		else if (requirement instanceof WidgetPresenceRequirement)
+		{
+			WidgetPresenceRequirement widgetRequirement = (WidgetPresenceRequirement) requirement;
+			dependencies.getWidgets().add(WidgetUtil.packComponentId(widgetRequirement.getGroupId(), widgetRequirement.getChildId()));
+		}
+		else if (requirement instanceof ComplexRequirement)
+		{
+			visitRequirements(Arrays.asList(((ComplexRequirement) requirement).getRequirements()));
+		}
+		else if (requirement instanceof RuneliteRequirement)
+		{
+			visitRequirements(((RuneliteRequirement) requirement).getRequirements().values());
+		}
+
+		if (requirement instanceof InitializableRequirement)
+		{
+			visitRequirements(((InitializableRequirement) requirement).getConditions());
+		}
+		visitRequirement(requirement.getOverlayReplacement());
+	}
+
+	private void visitItemRequirement(ItemRequirement itemRequirement)
+	{
+		if (itemRequirement instanceof ItemRequirements)
+		{
+			visitRequirements(((ItemRequirements) itemRequirement).getItemRequirements());
+		}
+		else
+		{
+			dependencies.getItemIds().addAll(itemRequirement.getAllIds());
+		}
+
+		dependencies.getContainers().add(TrackedContainers.EQUIPPED);
+		if (!itemRequirement.isEquip())
+		{
+			dependencies.getContainers().add(TrackedContainers.INVENTORY);
+		}
+		if (itemRequirement.isShouldCheckBank())
+		{
+			dependencies.getContainers().add(TrackedContainers.BANK);
+			dependencies.getContainers().add(TrackedContainers.POTION_STORAGE);
+			dependencies.getContainers().add(TrackedContainers.GROUP_STORAGE);
+		}
+
+		visitRequirement(itemRequirement.getAdditionalOptions());
+		visitRequirement(itemRequirement.getConditionToHide());
+	}
+
+	private void addSceneScan(Object stepOrRequirement)
+	{
+		dependencies.getSceneScans().merge(getTypeName(stepOrRequirement), 1, Integer::sum);
+	}
+
+	private static String getTypeName(Object object)
+	{
+		String simpleName = object.getClass().getSimpleName();
+		return simpleName.isEmpty() ? object.getClass().getName() : simpleName;
+	}
+}
@@ -273,6 +273,7 @@ import com.questhelper.playerquests.bikeshedder.BikeShedder;
 import com.questhelper.playerquests.cookshelper.CooksHelper;
 import com.questhelper.questhelpers.QuestDetails;
 import com.questhelper.questhelpers.QuestHelper;
+import com.questhelper.requirements.RequirementInputs;
 import lombok.Getter;
 import net.runelite.api.*;
 import net.runelite.client.config.ConfigManager;
@@ -911,6 +912,22 @@ public enum QuestHelperQuest
 		}
 	}
 
+	public RequirementInputs getVarInputs()
+	{
+		if (varbit != null)
+		{
+			return RequirementInputs.varbits(varbit.getId());
+		}
+		else if (varPlayer != null)
+		{
+			return RequirementInputs.varplayers(varPlayer.getId());
+		}
+		else
+		{
+			return RequirementInputs.UNKNOWN;
+		}
+	}
+
 	public static QuestHelper getByName(String name)
 	{
 		for (QuestHelperQuest qhq : QuestHelperQuest.values())
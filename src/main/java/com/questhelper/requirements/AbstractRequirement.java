@@ -43,6 +43,8 @@ public abstract class AbstractRequirement implements Requirement
 
 	protected boolean shouldCountForFilter = false;
 
+	private boolean shareable = true;
+
 	abstract public boolean check(Client client);
 
 	@Override
@@ -116,6 +118,26 @@ public abstract class AbstractRequirement implements Requirement
 		this.tooltip = builder.toString();
 	}
 
+	/**
+	 * Set whether this requirement can be shared with structurally equal requirements. This should be disabled for
+	 * requirements which are changed after their helper has started.
+	 *
+	 * @param shareable whether this requirement can be shared
+	 */
+	public void setShareable(boolean shareable)
+	{
+		this.shareable = shareable;
+	}
+
+	/**
+	 * @return true if this requirement can be shared, and has no display changes which would make it differ from an
+	 * otherwise equal requirement
+	 */
+	protected boolean canShareStructure()
+	{
+		return shareable && tooltip == null && urlSuffix == null && panelReplacement == null;
+	}
+
 	@Override
 	public Requirement getOverlayReplacement()
 	{
@@ -26,20 +26,23 @@
  */
 package com.questhelper.requirements;
 
+import com.questhelper.managers.RequirementInputTracker;
 import com.questhelper.requirements.conditional.ConditionForStep;
+import lombok.Getter;
 import lombok.Setter;
 import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
 import net.runelite.api.events.ChatMessage;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 public class ChatMessageRequirement extends ConditionForStep
 {
-	@Setter
 	protected boolean hasReceivedChatMessage = false;
 
+	@Getter
 	protected Requirement condition;
 
 	@Setter
@@ -65,6 +68,45 @@ public class ChatMessageRequirement extends ConditionForStep
 		return hasReceivedChatMessage;
 	}
 
+	@Override
+	public RequirementInputs getInputs()
+	{
+		return RequirementInputs.of(RequirementInputs.Type.CHAT);
+	}
+
+	public void setHasReceivedChatMessage(boolean hasReceivedChatMessage)
+	{
+		if (this.hasReceivedChatMessage != hasReceivedChatMessage)
+		{
+			this.hasReceivedChatMessage = hasReceivedChatMessage;
+			RequirementInputTracker.markChanged(RequirementInputs.Type.CHAT);
+		}
+	}
+
+	/**
+	 * @return the messages which, when contained in a chat message, can change the state of this requirement
+	 */
+	public List<String> getTriggerMessages()
+	{
+		if (invalidateRequirement == null)
+		{
+			return messages;
+		}
+
+		List<String> triggerMessages = new ArrayList<>(messages);
+		triggerMessages.addAll(invalidateRequirement.getTriggerMessages());
+		return triggerMessages;
+	}
+
+	/**
+	 * @return true if chat messages not containing any of the {@link #getTriggerMessages()} can currently change
+	 * the state of this requirement
+	 */
+	public boolean needsAllMessages()
+	{
+		return hasReceivedChatMessage && invalidateRequirement != null && invalidateRequirement.hasReceivedChatMessage;
+	}
+
 	public boolean validateCondition(Client client, ChatMessage chatMessage)
 	{
 		// TODO: Thing worked with MesBox?!?!
@@ -24,13 +24,17 @@
  */
 package com.questhelper.requirements;
 
+import com.questhelper.requirements.util.LogicEvaluator;
 import com.questhelper.requirements.util.LogicType;
+import com.questhelper.requirements.util.RequirementInterner;
 import com.questhelper.util.Utils;
+import lombok.AccessLevel;
 import lombok.Getter;
 import net.runelite.api.Client;
 
 import javax.annotation.Nonnull;
-import java.util.stream.Stream;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Requirement that combines multiple other {@link Requirement}s using
@@ -42,6 +46,10 @@ public class ComplexRequirement extends AbstractRequirement
 	private final Requirement[] requirements;
 	private final LogicType logicType;
 	private final String name;
+	@Getter(AccessLevel.NONE)
+	private final List<Requirement> requirementList;
+	@Getter(AccessLevel.NONE)
+	private LogicEvaluator evaluator;
 
 	/**
 	 * Requirement that combines multiple other {@link Requirement}s using
@@ -55,6 +63,7 @@ public class ComplexRequirement extends AbstractRequirement
 		this.name = name;
 		this.requirements = requirements;
 		this.logicType = LogicType.AND;
+		this.requirementList = Arrays.asList(requirements);
 
 		shouldCountForFilter = true;
 		// If any sub-requirements shouldn't be considered for filtering, don't consider the
@@ -79,6 +88,7 @@ public class ComplexRequirement extends AbstractRequirement
 		this.name = name;
 		this.requirements = requirements;
 		this.logicType = logicType;
+		this.requirementList = Arrays.asList(requirements);
 	}
 
 	@Override
@@ -88,7 +98,35 @@ public class ComplexRequirement extends AbstractRequirement
 		{
 			return false;
 		}
-		return logicType.test(Stream.of(requirements), r -> r.check(client));
+
+		// The requirements can be replaced with shared equal requirements, so the evaluator may need rebuilding
+		if (evaluator == null || !evaluator.isFor(requirementList))
+		{
+			evaluator = new LogicEvaluator(requirementList);
+		}
+		return evaluator.test(client, logicType);
+	}
+
+	@Override
+	public RequirementInputs getInputs()
+	{
+		return RequirementInputs.combine(Arrays.asList(requirements));
+	}
+
+	@Override
+	public Object getStructuralKey()
+	{
+		if (!canShareStructure())
+		{
+			return null;
+		}
+
+		List<Object> requirementKeys = RequirementInterner.getStructuralKeys(requirementList);
+		if (requirementKeys == null)
+		{
+			return null;
+		}
+		return Arrays.asList(getClass(), logicType, name, requirementKeys);
 	}
 
 	@Nonnull
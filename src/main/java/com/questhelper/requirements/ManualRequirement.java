@@ -24,14 +24,28 @@
  */
 package com.questhelper.requirements;
 
-import lombok.Setter;
+import com.questhelper.managers.RequirementInputTracker;
 import net.runelite.api.Client;
 
 public class ManualRequirement extends SimpleRequirement
 {
-	@Setter
 	boolean shouldPass;
 
+	public void setShouldPass(boolean shouldPass)
+	{
+		if (this.shouldPass != shouldPass)
+		{
+			this.shouldPass = shouldPass;
+			RequirementInputTracker.markChanged(RequirementInputs.Type.MANUAL);
+		}
+	}
+
+	@Override
+	public RequirementInputs getInputs()
+	{
+		return RequirementInputs.of(RequirementInputs.Type.MANUAL);
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
@@ -27,7 +27,9 @@ package com.questhelper.requirements;
 import net.runelite.api.Client;
 import net.runelite.api.events.ChatMessage;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -76,6 +78,21 @@ public class MultiChatMessageRequirement extends ChatMessageRequirement
 		return hasReceivedChatMessage;
 	}
 
+	@Override
+	public List<String> getTriggerMessages()
+	{
+		List<String> triggerMessages = new ArrayList<>();
+		requiredMessages.keySet().forEach(requirement -> triggerMessages.addAll(requirement.getTriggerMessages()));
+		return triggerMessages;
+	}
+
+	@Override
+	public boolean needsAllMessages()
+	{
+		// The times messages were last seen are re-compared on every message until this has passed
+		return !hasReceivedChatMessage;
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
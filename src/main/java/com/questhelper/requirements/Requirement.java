@@ -27,6 +27,7 @@
 package com.questhelper.requirements;
 
 import com.questhelper.QuestHelperConfig;
+import com.questhelper.managers.RequirementCheckCache;
 import net.runelite.api.Client;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.ui.overlay.components.LineComponent;
@@ -51,6 +52,32 @@ public interface Requirement
 	 */
 	boolean check(Client client);
 
+	/**
+	 * The game state read by {@link #check(Client)}. This is used to avoid re-checking the requirement whilst
+	 * none of its inputs have changed.<br>
+	 * By default, {@link RequirementInputs#UNKNOWN} is used, meaning the requirement is always re-checked.
+	 *
+	 * @return the {@link RequirementInputs} this requirement depends on
+	 */
+	default RequirementInputs getInputs()
+	{
+		return RequirementInputs.UNKNOWN;
+	}
+
+	/**
+	 * A key which is equal for requirements that will always give the same result and display the same way. This is
+	 * used to share a single instance between structurally equal requirements.<br>
+	 * By default, null is used, meaning this requirement is never shared. Requirements which hold any state of their
+	 * own should not provide a key.
+	 *
+	 * @return the key for this requirement, or null if it cannot be shared
+	 */
+	@Nullable
+	default Object getStructuralKey()
+	{
+		return null;
+	}
+
 	default boolean checkWithConfigChange(Client client, ConfigManager configManager, String configName, String value)
 	{
 		if (check(client))
@@ -94,7 +121,7 @@ public interface Requirement
 	 */
 	default Color getColor(Client client, QuestHelperConfig config)
 	{
-		return check(client) ? config.passColour() : config.failColour();
+		return RequirementCheckCache.check(client, this) ? config.passColour() : config.failColour();
 	}
 
 	/**
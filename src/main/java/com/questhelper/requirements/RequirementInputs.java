@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.requirements;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Describes the game state which a {@link Requirement} reads when it is checked.
+ * <p>
+ * Callers can use this to re-use the last result of a {@link Requirement} until one of its inputs changes.
+ * Any requirement which can't describe what it reads should use {@link #UNKNOWN}, which is always considered changed.
+ */
+@Getter
+public class RequirementInputs
+{
+	public enum Type
+	{
+		VARBIT,
+		VARPLAYER,
+		ITEM_CONTAINERS,
+		PLAYER_LOCATION,
+		NPCS,
+		CHAT,
+		MANUAL,
+		CONFIG,
+		UNKNOWN
+	}
+
+	public static final RequirementInputs NONE = new RequirementInputs(EnumSet.noneOf(Type.class),
+		Collections.emptySet(), Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+
+	public static final RequirementInputs UNKNOWN = of(Type.UNKNOWN);
+
+	private final Set<Type> types;
+	private final Set<Integer> varbits;
+	private final Set<Integer> varplayers;
+	private final Set<Integer> npcs;
+	private final Set<Integer> items;
+
+	private RequirementInputs(Set<Type> types, Set<Integer> varbits, Set<Integer> varplayers, Set<Integer> npcs, Set<Integer> items)
+	{
+		this.types = Collections.unmodifiableSet(types);
+		this.varbits = Collections.unmodifiableSet(varbits);
+		this.varplayers = Collections.unmodifiableSet(varplayers);
+		this.npcs = Collections.unmodifiableSet(npcs);
+		this.items = Collections.unmodifiableSet(items);
+	}
+
+	/**
+	 * @param types the types of state read, without any specific ids
+	 * @return new {@link RequirementInputs} for the given types
+	 */
+	public static RequirementInputs of(Type... types)
+	{
+		Set<Type> typeSet = EnumSet.noneOf(Type.class);
+		Collections.addAll(typeSet, types);
+		return new RequirementInputs(typeSet, Collections.emptySet(), Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+	}
+
+	/**
+	 * @param varbitIds the varbits read
+	 * @return new {@link RequirementInputs} depending on the given varbits
+	 */
+	public static RequirementInputs varbits(int... varbitIds)
+	{
+		return new RequirementInputs(EnumSet.of(Type.VARBIT), toSet(varbitIds), Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+	}
+
+	/**
+	 * @param varplayerIds the varps read
+	 * @return new {@link RequirementInputs} depending on the given varps
+	 */
+	public static RequirementInputs varplayers(int... varplayerIds)
+	{
+		return new RequirementInputs(EnumSet.of(Type.VARPLAYER), Collections.emptySet(), toSet(varplayerIds), Collections.emptySet(), Collections.emptySet());
+	}
+
+	/**
+	 * @param npcIds the ids of the NPCs which must be spawned, despawned, or changed for the result to change
+	 * @return new {@link RequirementInputs} depending on the given NPC ids
+	 */
+	public static RequirementInputs npcs(int... npcIds)
+	{
+		return new RequirementInputs(EnumSet.of(Type.NPCS), Collections.emptySet(), Collections.emptySet(), toSet(npcIds), Collections.emptySet());
+	}
+
+	/**
+	 * @param itemIds the ids of the items which must change in quantity in any tracked container for the result to change
+	 * @return new {@link RequirementInputs} depending on the given item ids
+	 */
+	public static RequirementInputs items(Collection<Integer> itemIds)
+	{
+		return new RequirementInputs(EnumSet.of(Type.ITEM_CONTAINERS), Collections.emptySet(), Collections.emptySet(),
+			Collections.emptySet(), new HashSet<>(itemIds));
+	}
+
+	/**
+	 * Combine the inputs of all the given requirements. Null requirements are ignored.
+	 *
+	 * @param requirements the requirements to combine the inputs of
+	 * @return the combined {@link RequirementInputs}
+	 */
+	public static RequirementInputs combine(Collection<? extends Requirement> requirements)
+	{
+		RequirementInputs inputs = NONE;
+		for (Requirement requirement : requirements)
+		{
+			if (requirement == null)
+			{
+				continue;
+			}
+			inputs = inputs.and(requirement.getInputs());
+			if (inputs.isUnknown())
+			{
+				return UNKNOWN;
+			}
+		}
+		return inputs;
+	}
+
+	/**
+	 * @param other the inputs to add
+	 * @return new {@link RequirementInputs} depending on both this and the other inputs
+	 */
+	public RequirementInputs and(RequirementInputs other)
+	{
+		if (isUnknown() || other == null || other.isUnknown())
+		{
+			return UNKNOWN;
+		}
+		if (other == NONE)
+		{
+			return this;
+		}
+		if (this == NONE)
+		{
+			return other;
+		}
+
+		Set<Type> newTypes = EnumSet.noneOf(Type.class);
+		newTypes.addAll(types);
+		newTypes.addAll(other.types);
+		return new RequirementInputs(newTypes, union(varbits, other.varbits), union(varplayers, other.varplayers), union(npcs, other.npcs),
+			combineItems(other));
+	}
+
+	public boolean isUnknown()
+	{
+		return types.contains(Type.UNKNOWN);
+	}
+
+	// Inputs depending on item containers without specific item ids depend on every item
+	private Set<Integer> combineItems(RequirementInputs other)
+	{
+		if (dependsOnAnyItem() || other.dependsOnAnyItem())
+		{
+			return Collections.emptySet();
+		}
+		return union(items, other.items);
+	}
+
+	private boolean dependsOnAnyItem()
+	{
+		return types.contains(Type.ITEM_CONTAINERS) && items.isEmpty();
+	}
+
+	private static Set<Integer> toSet(int... ids)
+	{
+		Set<Integer> set = new HashSet<>();
+		for (int id : ids)
+		{
+			set.add(id);
+		}
+		return set;
+	}
+
+	private static Set<Integer> union(Set<Integer> first, Set<Integer> second)
+	{
+		Set<Integer> set = new HashSet<>(first);
+		set.addAll(second);
+		return set;
+	}
+}
@@ -24,8 +24,8 @@
  */
 package com.questhelper.requirements;
 
+import com.questhelper.managers.ChatMessageMatcher;
 import com.questhelper.requirements.conditional.InitializableRequirement;
-import com.questhelper.requirements.conditional.NpcCondition;
 import com.questhelper.requirements.npc.DialogRequirement;
 import com.questhelper.requirements.runelite.RuneliteRequirement;
 import net.runelite.api.Client;
@@ -53,7 +53,6 @@ public class RequirementValidator
 	protected boolean started = false;
 
 	protected final List<ChatMessageRequirement> chatConditions = new ArrayList<>();
-	protected final List<NpcCondition> npcConditions = new ArrayList<>();
 	protected final List<DialogRequirement> dialogConditions = new ArrayList<>();
 	protected final List<RuneliteRequirement> runeliteConditions = new ArrayList<>();
 
@@ -76,6 +75,11 @@ public class RequirementValidator
 		requirements.stream()
 			.filter(InitializableRequirement.class::isInstance)
 			.forEach(req -> ((InitializableRequirement) req).initialize(client));
+		if (!started)
+		{
+			ChatMessageMatcher.register(chatConditions);
+			ChatMessageMatcher.register(dialogConditions);
+		}
 		started = true;
 	}
 
@@ -83,7 +87,6 @@ public class RequirementValidator
 	{
 		checkForChatConditions(requirement);
 		checkForDialogConditions(requirement);
-		checkForNpcConditions(requirement);
 		checkForRuneliteConditions(requirement);
 
 		if ((requirement instanceof InitializableRequirement))
@@ -126,24 +129,6 @@ public class RequirementValidator
 		}
 	}
 
-	private void checkForNpcConditions(Requirement requirement)
-	{
-		if (!(requirement instanceof InitializableRequirement))
-		{
-			return;
-		}
-
-		InitializableRequirement condition = (InitializableRequirement) requirement;
-
-		if (condition.getConditions().isEmpty())
-		{
-			if (condition instanceof NpcCondition && !npcConditions.contains(condition))
-			{
-				npcConditions.add((NpcCondition) condition);
-			}
-		}
-	}
-
 	private void checkForRuneliteConditions(Requirement requirement)
 	{
 		if (requirement instanceof RuneliteRequirement && !runeliteConditions.contains(requirement))
@@ -194,41 +179,12 @@ public class RequirementValidator
 
 	public void handleChatMessage(ChatMessage chatMessage)
 	{
-		chatConditions.forEach(requirement -> requirement.validateCondition(client, chatMessage));
-		dialogConditions.forEach(requirement -> requirement.validateCondition(chatMessage));
-	}
-
-	@Subscribe
-	public void onNpcSpawned(NpcSpawned event)
-	{
-		handleNpcSpawned(event);
-	}
-
-	public void handleNpcSpawned(NpcSpawned npcSpawned)
-	{
-		npcConditions.forEach(npc -> npc.checkNpcSpawned(npcSpawned.getNpc()));
-	}
-
-	@Subscribe
-	public void onNpcDespawned(NpcDespawned event)
-	{
-		handleNpcDespawned(event);
-	}
-
-	public void handleNpcDespawned(NpcDespawned npcDespawned)
-	{
-		npcConditions.forEach(npc -> npc.checkNpcDespawned(npcDespawned.getNpc()));
-	}
-
-	@Subscribe
-	public void onNpcChanged(NpcChanged npcCompositionChanged)
-	{
-		handleNpcChanged(npcCompositionChanged);
-	}
-
-	public void handleNpcChanged(NpcChanged npcChanged)
-	{
-		npcConditions.forEach(npc -> npc.checkNpcChanged(npcChanged));
+		chatConditions.stream()
+			.filter(requirement -> ChatMessageMatcher.shouldValidate(requirement, chatMessage))
+			.forEach(requirement -> requirement.validateCondition(client, chatMessage));
+		dialogConditions.stream()
+			.filter(requirement -> ChatMessageMatcher.shouldValidate(requirement, chatMessage))
+			.forEach(requirement -> requirement.validateCondition(chatMessage));
 	}
 }
 
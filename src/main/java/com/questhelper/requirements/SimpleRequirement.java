@@ -27,6 +27,7 @@
 package com.questhelper.requirements;
 
 import com.questhelper.QuestHelperConfig;
+import com.questhelper.managers.RequirementCheckCache;
 import net.runelite.api.Client;
 
 import javax.annotation.Nonnull;
@@ -47,6 +48,6 @@ public abstract class SimpleRequirement extends AbstractRequirement
 	@Override
 	public Color getColor(Client client, QuestHelperConfig config)
 	{
-		return check(client) ? config.passColour() : config.failColour();
+		return RequirementCheckCache.check(client, this) ? config.passColour() : config.failColour();
 	}
 }
@@ -24,7 +24,9 @@
  */
 package com.questhelper.requirements.conditional;
 
+import com.questhelper.managers.RequirementInputTracker;
 import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.util.LogicType;
 import lombok.Getter;
 import lombok.Setter;
@@ -36,9 +38,9 @@ import java.util.List;
 
 public abstract class ConditionForStep implements InitializableRequirement
 {
-	@Setter
 	@Getter
 	protected boolean hasPassed;
+	@Getter
 	protected boolean onlyNeedToPassOnce;
 	protected LogicType logicType;
 
@@ -48,6 +50,15 @@ public abstract class ConditionForStep implements InitializableRequirement
 	@Override
 	abstract public boolean check(Client client);
 
+	public void setHasPassed(boolean hasPassed)
+	{
+		if (this.hasPassed != hasPassed)
+		{
+			this.hasPassed = hasPassed;
+			RequirementInputTracker.markChanged(RequirementInputs.Type.MANUAL);
+		}
+	}
+
 	@Override
 	public void initialize(Client client)
 	{
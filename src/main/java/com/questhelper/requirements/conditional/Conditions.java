@@ -25,14 +25,18 @@
 package com.questhelper.requirements.conditional;
 
 import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.RequirementInputs;
+import com.questhelper.requirements.util.LogicEvaluator;
 import com.questhelper.requirements.util.LogicType;
 import com.questhelper.requirements.util.Operation;
+import com.questhelper.requirements.util.RequirementInterner;
 import com.questhelper.util.Utils;
 import lombok.Setter;
 import net.runelite.api.Client;
 
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -42,6 +46,8 @@ public class Conditions extends ConditionForStep
 	protected Operation operation;
 	protected int quantity;
 
+	private LogicEvaluator evaluator;
+
 	@Setter
 	protected String text;
 
@@ -139,6 +145,35 @@ public class Conditions extends ConditionForStep
 		return text;
 	}
 
+	@Override
+	public RequirementInputs getInputs()
+	{
+		RequirementInputs inputs = RequirementInputs.combine(conditions);
+		if (onlyNeedToPassOnce)
+		{
+			// hasPassed can be reset externally
+			inputs = inputs.and(RequirementInputs.of(RequirementInputs.Type.MANUAL));
+		}
+		return inputs;
+	}
+
+	@Override
+	public Object getStructuralKey()
+	{
+		// Conditions which latch hold state of their own, so can't be shared
+		if (onlyNeedToPassOnce)
+		{
+			return null;
+		}
+
+		List<Object> conditionKeys = RequirementInterner.getStructuralKeys(conditions);
+		if (conditionKeys == null)
+		{
+			return null;
+		}
+		return Arrays.asList(getClass(), logicType, operation, quantity, text, conditionKeys);
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
@@ -147,24 +182,17 @@ public class Conditions extends ConditionForStep
 			return true;
 		}
 
-		int conditionsPassed = (int) conditions.stream().filter(c -> {
-			if (c == null)
-			{
-				return true;
-			}
-			return c.check(client);
-		}).count();
+		if (evaluator == null || !evaluator.isFor(conditions))
+		{
+			evaluator = new LogicEvaluator(conditions);
+		}
 
 		if (operation != null)
 		{
-			return operation.check(conditionsPassed, quantity);
+			return evaluator.test(client, operation, quantity);
 		}
 
-		//TODO: Replace with LogicType check, however more testing to be done to make sure nothing breaks
-		if ((conditionsPassed > 0 && logicType == LogicType.OR)
-			|| (conditionsPassed == 0 && logicType == LogicType.NOR)
-			|| (conditionsPassed == conditions.size() && logicType == LogicType.AND)
-			|| (conditionsPassed < conditions.size() && logicType == LogicType.NAND))
+		if (evaluator.test(client, logicType))
 		{
 			hasPassed = true;
 			return true;
@@ -24,20 +24,20 @@
  */
 package com.questhelper.requirements.conditional;
 
+import com.questhelper.managers.NpcTracker;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.zone.Zone;
+import lombok.Getter;
 import lombok.Setter;
 import net.runelite.api.Client;
 import net.runelite.api.NPC;
 import net.runelite.api.coords.WorldPoint;
-import net.runelite.api.events.NpcChanged;
-
-import java.util.ArrayList;
 
 public class NpcCondition extends ConditionForStep
 {
+	@Getter
 	private final int npcID;
-	private final ArrayList<NPC> npcs = new ArrayList<>();
-	private boolean npcInScene = false;
+	@Getter
 	private final Zone zone;
 
 	@Setter
@@ -65,38 +65,33 @@ public class NpcCondition extends ConditionForStep
 		this.zone = zone;
 	}
 
-	@Override
-	public void initialize(Client client)
-	{
-		for (NPC npc : client.getTopLevelWorldView().npcs())
-		{
-			if (npcID == npc.getId())
-			{
-				this.npcs.add(npc);
-				npcInScene = true;
-			}
-		}
-	}
-
 	public boolean check(Client client)
 	{
 		if (zone != null)
 		{
-			for (NPC npc : npcs)
+			for (NPC npc : NpcTracker.getNpcs(npcID))
 			{
-				if (npc != null)
-				{
-					if (isInZone(client, npc) && hasCorrectAnimation(npc)) return true;
-				}
+				if (isInZone(client, npc) && hasCorrectAnimation(npc)) return true;
 			}
 			return false;
 		}
 		else
 		{
-			return npcInScene;
+			return NpcTracker.hasNpc(npcID);
 		}
 	}
 
+	@Override
+	public RequirementInputs getInputs()
+	{
+		// NPCs can move or animate without any event we can track
+		if (zone != null || animationIDRequired != null)
+		{
+			return RequirementInputs.UNKNOWN;
+		}
+		return RequirementInputs.npcs(npcID);
+	}
+
 	private boolean isInZone(Client client, NPC npc)
 	{
 		if (zone == null) return true;
@@ -113,43 +108,4 @@ public class NpcCondition extends ConditionForStep
 	{
 		return animationIDRequired == null || npc.getAnimation() == animationIDRequired;
 	}
-
-	public void checkNpcSpawned(NPC npc)
-	{
-		if (npc.getId() == this.npcID)
-		{
-			npcs.add(npc);
-			npcInScene = true;
-		}
-	}
-
-	public void checkNpcDespawned(NPC npc)
-	{
-		if (npcs.contains(npc))
-		{
-			npcs.remove(npc);
-			npcInScene = false;
-		}
-	}
-
-	public void checkNpcChanged(NpcChanged npcChanged)
-	{
-		if (npcs.contains(npcChanged.getNpc()) && npcChanged.getNpc().getId() != this.npcID)
-		{
-			this.npcs.remove(npcChanged.getNpc());
-			npcInScene = false;
-		}
-
-		if (npcChanged.getNpc().getId() == this.npcID)
-		{
-			this.npcs.add(npcChanged.getNpc());
-			npcInScene = true;
-		}
-	}
-
-	@Override
-	public void updateHandler()
-	{
-		npcInScene = false;
-	}
 }
@@ -24,12 +24,16 @@
  */
 package com.questhelper.requirements.conditional;
 
+import com.questhelper.managers.SceneObjectIndex;
 import com.questhelper.requirements.zone.Zone;
+import lombok.Getter;
 import lombok.Setter;
 import net.runelite.api.Client;
 import net.runelite.api.GameObject;
+import net.runelite.api.Point;
 import net.runelite.api.Tile;
 import net.runelite.api.TileObject;
+import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 
 import java.util.Objects;
@@ -39,7 +43,9 @@ import static net.runelite.api.Perspective.SCENE_SIZE;
 
 public class ObjectCondition extends ConditionForStep
 {
+	@Getter
 	private final Set<Integer> objectIDs;
+	@Getter
 	private final Zone zone;
 
 	@Setter
@@ -86,6 +92,12 @@ public class ObjectCondition extends ConditionForStep
 		Tile[][] tiles;
 		if (client.getScene() == null) return false;
 
+		// Any object matches -1, so every tile needs checking
+		if (!objectIDs.contains(-1))
+		{
+			return checkIndexedObjects(client);
+		}
+
 		tiles = client.getScene().getTiles()[client.getPlane()];
 
 		for (int x = 0; x < SCENE_SIZE; x++)
@@ -103,20 +115,53 @@ public class ObjectCondition extends ConditionForStep
 		return false;
 	}
 
+	private boolean checkIndexedObjects(Client client)
+	{
+		int plane = client.getPlane();
+		for (int objectID : objectIDs)
+		{
+			for (TileObject object : SceneObjectIndex.getObjects(objectID))
+			{
+				if (object.getPlane() != plane || (onlyCheckGameObjects && !(object instanceof GameObject)))
+				{
+					continue;
+				}
+
+				if (object instanceof GameObject)
+				{
+					// Game objects are found on every tile they cover
+					GameObject gameObject = (GameObject) object;
+					Tile[][] tiles = client.getScene().getTiles()[plane];
+					Point min = gameObject.getSceneMinLocation();
+					Point max = gameObject.getSceneMaxLocation();
+					for (int x = min.getX(); x <= max.getX(); x++)
+					{
+						for (int y = min.getY(); y <= max.getY(); y++)
+						{
+							Tile tile = tiles[x][y];
+							if (tile != null && isTileInRange(client, tile.getLocalLocation()))
+							{
+								return true;
+							}
+						}
+					}
+				}
+				else if (isTileInRange(client, object.getLocalLocation()))
+				{
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	private boolean checkTile(Tile tile, Client client)
 	{
 		if (tile == null)
 		{
 			return false;
 		}
-		WorldPoint wp = WorldPoint.fromLocalInstance(client, tile.getLocalLocation());
-		if (zone != null && !zone.contains(wp)) return false;
-
-		WorldPoint playerLocation = client.getLocalPlayer().getWorldLocation();
-		boolean playerClose = maxDistanceFromPlayer == -1 ||
-			(playerLocation.distanceTo(wp) < maxDistanceFromPlayer);
-
-		if (!playerClose) return false;
+		if (!isTileInRange(client, tile.getLocalLocation())) return false;
 
 		for (GameObject object : tile.getGameObjects())
 		{
@@ -131,6 +176,16 @@ public class ObjectCondition extends ConditionForStep
 		return false;
 	}
 
+	private boolean isTileInRange(Client client, LocalPoint tileLocation)
+	{
+		WorldPoint wp = WorldPoint.fromLocalInstance(client, tileLocation);
+		if (zone != null && !zone.contains(wp)) return false;
+
+		WorldPoint playerLocation = client.getLocalPlayer().getWorldLocation();
+		return maxDistanceFromPlayer == -1 ||
+			(playerLocation.distanceTo(wp) < maxDistanceFromPlayer);
+	}
+
 	private boolean checkForObjects(TileObject object)
 	{
 		if (object == null) {
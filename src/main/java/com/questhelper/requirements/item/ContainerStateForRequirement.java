@@ -32,12 +32,18 @@ public class ContainerStateForRequirement
     @Getter
     private int matchesFound;
 
+    // The RequirementInputTracker generation the matches were found at, or -1 if never checked
     @Getter
-    private int lastCheckedTick = -2;
+    private long lastCheckedGeneration = -1;
 
-    public void set(int matchesFound, int currentTick)
+    public void set(int matchesFound, long currentGeneration)
     {
         this.matchesFound = matchesFound;
-        this.lastCheckedTick = currentTick;
+        this.lastCheckedGeneration = currentGeneration;
+    }
+
+    public void reset()
+    {
+        set(0, -1);
     }
 }
@@ -27,6 +27,7 @@
 package com.questhelper.requirements.item;
 
 import com.questhelper.collections.ItemCollections;
+import com.questhelper.requirements.RequirementInputs;
 import net.runelite.api.Client;
 
 import java.util.List;
@@ -79,4 +80,11 @@ public class FollowerItemRequirement extends ItemRequirement
 
 		return super.check(client);
 	}
+
+	@Override
+	public RequirementInputs getInputs()
+	{
+		// Followers can start or stop interacting without an event we track
+		return RequirementInputs.UNKNOWN;
+	}
 }
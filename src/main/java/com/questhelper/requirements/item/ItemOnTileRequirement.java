@@ -27,11 +27,11 @@
 
 package com.questhelper.requirements.item;
 
+import com.questhelper.managers.GroundItemIndex;
 import com.questhelper.requirements.conditional.ConditionForStep;
 import com.questhelper.steps.tools.QuestPerspective;
 import net.runelite.api.Client;
 import net.runelite.api.Tile;
-import net.runelite.api.TileItem;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 
@@ -90,11 +90,9 @@ public class ItemOnTileRequirement extends ConditionForStep
 				Tile tile = client.getTopLevelWorldView().getScene().getTiles()[client.getTopLevelWorldView().getPlane()][localPoint.getSceneX()][localPoint.getSceneY()];
 				if (tile != null)
 				{
-					List<TileItem> items = tile.getGroundItems();
-					if (items == null) return false;
-					for (TileItem item : items)
+					for (int id : GroundItemIndex.getItemIds(tile))
 					{
-						if (itemID.contains(item.getId()))
+						if (itemID.contains(id))
 						{
 							return true;
 						}
@@ -104,24 +102,14 @@ public class ItemOnTileRequirement extends ConditionForStep
 			return false;
 		}
 
-		Tile[][] squareOfTiles = client.getScene().getTiles()[client.getPlane()];
-		for (Tile[] lineOfTiles : squareOfTiles)
+		int plane = client.getPlane();
+		for (int id : itemID)
 		{
-			for (Tile tile : lineOfTiles)
+			for (Tile tile : GroundItemIndex.getTiles(id))
 			{
-				if (tile != null)
+				if (tile.getPlane() == plane)
 				{
-					List<TileItem> items = tile.getGroundItems();
-					if (items != null)
-					{
-						for (TileItem item : items)
-						{
-							if (itemID.contains(item.getId()))
-							{
-								return true;
-							}
-						}
-					}
+					return true;
 				}
 			}
 		}
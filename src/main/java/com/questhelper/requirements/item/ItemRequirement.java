@@ -32,11 +32,15 @@ import com.questhelper.collections.ItemCollections;
 import com.questhelper.collections.ItemWithCharge;
 import com.questhelper.managers.ItemAndLastUpdated;
 import com.questhelper.managers.QuestContainerManager;
+import com.questhelper.managers.RequirementInputTracker;
 import com.questhelper.requirements.AbstractRequirement;
 import com.questhelper.requirements.ManualRequirement;
 import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.conditional.Conditions;
 import com.questhelper.requirements.util.LogicType;
+import com.questhelper.util.ItemCountMap;
+import com.questhelper.util.ItemIdSet;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
@@ -65,7 +69,6 @@ public class ItemRequirement extends AbstractRequirement
 	/**
 	 * The primary item id for this requirement.
 	 */
-	@Setter
 	@Getter
 	private int id;
 
@@ -107,6 +110,24 @@ public class ItemRequirement extends AbstractRequirement
 	 */
 	protected final List<Integer> alternateItems = new ArrayList<>();
 
+	/**
+	 * The id and alternate item ids, built when first needed and cleared whenever they change.
+	 */
+	private List<Integer> allIds;
+	private ItemIdSet allIdSet;
+
+	/**
+	 * The matches found in each of the ordered tracked containers, indexed by {@link TrackedContainers} ordinal.
+	 * These are shared by {@link #check(Client)}, {@link #getColor(Client, QuestHelperConfig)},
+	 * {@link #getContainersWithItem()} and {@link #getTooltip()}, and only found again once one of the items changes.
+	 */
+	private final int[] containerMatches = new int[TrackedContainers.values().length];
+	private long containerMatchesGeneration = -1;
+
+	// Derived from containerMatches for the quantity it was found for, or null if it needs deriving again
+	private Set<TrackedContainers> containersWithItem;
+	private int containersWithItemQuantity;
+
 	/**
 	 * Determines whether the matched item name should be displayed.
 	 */
@@ -151,13 +172,13 @@ public class ItemRequirement extends AbstractRequirement
 	 * Denotes whether the quantity-check should consider item charges.
 	 * For example, a charged item like a Ring of dueling (7) will count as 7 quantity.
 	 */
-	@Setter
 	@Getter
 	protected boolean isChargedItem = false;
 
 	/**
 	 * Additional options that can further modify the requirement.
 	 */
+	@Getter
 	protected Requirement additionalOptions;
 
 	/**
@@ -331,6 +352,7 @@ public class ItemRequirement extends AbstractRequirement
 	public void addAlternates(List<Integer> alternates)
 	{
 		this.alternateItems.addAll(alternates);
+		clearIdCaches();
 	}
 
 	/**
@@ -341,6 +363,7 @@ public class ItemRequirement extends AbstractRequirement
 	public void addAlternates(ItemCollections alternates)
 	{
 		this.alternateItems.addAll(alternates.getItems());
+		clearIdCaches();
 	}
 
 	/**
@@ -351,6 +374,33 @@ public class ItemRequirement extends AbstractRequirement
 	public void addAlternates(Integer... alternates)
 	{
 		this.alternateItems.addAll(Arrays.asList(alternates));
+		clearIdCaches();
+	}
+
+	/**
+	 * Sets the primary item id for this requirement.
+	 *
+	 * @param id the new primary item id
+	 */
+	public void setId(int id)
+	{
+		this.id = id;
+		clearIdCaches();
+	}
+
+	public void setChargedItem(boolean isChargedItem)
+	{
+		this.isChargedItem = isChargedItem;
+		clearIdCaches();
+	}
+
+	private void clearIdCaches()
+	{
+		allIds = null;
+		allIdSet = null;
+		containerMatchesGeneration = -1;
+		containersWithItem = null;
+		knownContainerStates.values().forEach(ContainerStateForRequirement::reset);
 	}
 
 	/**
@@ -566,14 +616,33 @@ public class ItemRequirement extends AbstractRequirement
 	/**
 	 * Retrieves a list of all item ids associated with this requirement, including alternates.
 	 *
-	 * @return a {@link List} of unique item ids
+	 * @return an unmodifiable {@link List} of unique item ids, in priority order
 	 */
 	public List<Integer> getAllIds()
 	{
-		List<Integer> items = new ArrayList<>(Collections.singletonList(id));
-		items.addAll(alternateItems);
+		if (allIds == null)
+		{
+			List<Integer> items = new ArrayList<>(Collections.singletonList(id));
+			items.addAll(alternateItems);
 
-		return items.stream().distinct().collect(Collectors.toList());
+			allIds = Collections.unmodifiableList(items.stream().distinct().collect(Collectors.toList()));
+		}
+		return allIds;
+	}
+
+	/**
+	 * Checks whether an item id is one of the ids returned by {@link #getAllIds()}.
+	 *
+	 * @param itemId the item id to check
+	 * @return {@code true} if the item satisfies this requirement
+	 */
+	public boolean containsId(int itemId)
+	{
+		if (allIdSet == null)
+		{
+			allIdSet = ItemIdSet.of(getAllIds());
+		}
+		return allIdSet.contains(itemId);
 	}
 
 	/**
@@ -600,7 +669,7 @@ public class ItemRequirement extends AbstractRequirement
 		}
 
 		int itemID = findItemID();
-		if (displayMatchedItemName && ((alternateItems.contains(itemID)) || id == itemID))
+		if (displayMatchedItemName && containsId(itemID))
 		{
 			text.append(client.getItemDefinition(itemID).getName());
 		}
@@ -697,11 +766,13 @@ public class ItemRequirement extends AbstractRequirement
 		{
 			color = Color.GRAY;
 		}
-		else if (this.checkContainersOnPlayer(client))
+		else if (RequirementCheckCache.getOrCheck(client, this, RequirementCheckCache.CheckType.CONTAINERS_ON_PLAYER,
+			() -> this.checkContainersOnPlayer(client)))
 		{
 			color = config.passColour();
 		}
-		else if (this.checkWithAllContainers())
+		else if (RequirementCheckCache.getOrCheck(client, this, RequirementCheckCache.CheckType.ALL_CONTAINERS,
+			this::checkWithAllContainers))
 		{
 			color = config.partialSuccessColour();
 		}
@@ -733,8 +804,9 @@ public class ItemRequirement extends AbstractRequirement
 	 * @param containers the set of {@link TrackedContainers} where the item is found
 	 * @return a tooltip {@link String} indicating which containers contain the item
 	 */
-	protected String getTooltipFromEnumSet(Set<TrackedContainers> containers)
+	protected String getTooltipFromEnumSet(Set<TrackedContainers> containersWithItem)
 	{
+		Set<TrackedContainers> containers = new LinkedHashSet<>(containersWithItem);
 		containers.removeAll(getOnPlayerContainers());
 		String basicTooltip = super.getTooltip();
 		if (basicTooltip == null)
@@ -803,7 +875,8 @@ public class ItemRequirement extends AbstractRequirement
 		// we need to aggregate all the results.
 		for (ItemAndLastUpdated container : containers)
 		{
-			if (container.getItems() == null)
+			ItemCountMap itemCounts = container.getItemCounts();
+			if (itemCounts == null)
 			{
 				continue;
 			}
@@ -811,14 +884,12 @@ public class ItemRequirement extends AbstractRequirement
 			// Generic container, always check
 			if (container.getContainerType() == TrackedContainers.UNDEFINED)
 			{
-				totalFound += getMaxMatchingItems(container.getItems());
+				totalFound += getMaxMatchingItems(itemCounts);
 			}
-			else if (stateForItemInContainer.getLastCheckedTick() <= container.getLastUpdated())
+			else if (hasAnyItemChangedSince(stateForItemInContainer.getLastCheckedGeneration()))
 			{
-				int matchesInContainer = getMaxMatchingItems(container.getItems());
-				// Update the container state (won't represent the actual last checked tick,
-				// but ensures it's after the current state for comparison)
-				stateForItemInContainer.set(matchesInContainer, container.getLastUpdated() + 1);
+				int matchesInContainer = getMaxMatchingItems(itemCounts);
+				stateForItemInContainer.set(matchesInContainer, RequirementInputTracker.getGeneration());
 				totalFound += matchesInContainer;
 			}
 			else
@@ -830,6 +901,35 @@ public class ItemRequirement extends AbstractRequirement
 		return totalFound;
 	}
 
+	/**
+	 * Checks whether any of the items matching this requirement have changed in quantity in any container.
+	 *
+	 * @param sinceGeneration the {@link RequirementInputTracker} generation the last matches were found at, or -1
+	 * @return {@code true} if the matches need to be found again
+	 */
+	private boolean hasAnyItemChangedSince(long sinceGeneration)
+	{
+		if (sinceGeneration < 0)
+		{
+			return true;
+		}
+
+		// Most changes are to vars, NPCs or the like, so avoid checking each id unless a container has changed
+		if (!RequirementInputTracker.hasAnyItemChangedSince(sinceGeneration))
+		{
+			return false;
+		}
+
+		for (int itemId : getAllIds())
+		{
+			if (RequirementInputTracker.hasItemChangedSince(itemId, sinceGeneration))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Checks whether the total number of matching items across the specified containers meets the required quantity.
 	 *
@@ -849,7 +949,7 @@ public class ItemRequirement extends AbstractRequirement
 	 */
 	private boolean checkContainersOnPlayer(Client client)
 	{
-		return checkContainers(QuestContainerManager.getEquippedData(), QuestContainerManager.getInventoryData());
+		return getContainerMatches(TrackedContainers.EQUIPPED) + getContainerMatches(TrackedContainers.INVENTORY) >= quantity;
 	}
 
 	/**
@@ -860,11 +960,37 @@ public class ItemRequirement extends AbstractRequirement
 	 */
 	public boolean checkWithAllContainers()
 	{
-		return checkContainers(QuestContainerManager.getEquippedData(),
-				QuestContainerManager.getInventoryData(),
-				QuestContainerManager.getBankData(),
-				QuestContainerManager.getPotionData(),
-				QuestContainerManager.getGroupStorageData());
+		int matchesFound = 0;
+		for (ItemAndLastUpdated container : QuestContainerManager.getOrderedListOfContainers())
+		{
+			matchesFound += getContainerMatches(container.getContainerType());
+		}
+		return matchesFound >= quantity;
+	}
+
+	/**
+	 * Gets the number of matching items in one of the ordered tracked containers, finding the matches in all of them
+	 * again if any of the items have changed since they were last found.
+	 *
+	 * @param containerType the container to get the matches in
+	 * @return the total count of matching items found in the container
+	 */
+	private int getContainerMatches(TrackedContainers containerType)
+	{
+		long currentGeneration = RequirementInputTracker.getGeneration();
+		if (containerMatchesGeneration != currentGeneration)
+		{
+			if (hasAnyItemChangedSince(containerMatchesGeneration))
+			{
+				for (ItemAndLastUpdated container : QuestContainerManager.getOrderedListOfContainers())
+				{
+					containerMatches[container.getContainerType().ordinal()] = checkTotalMatchesInContainers(container);
+				}
+				containersWithItem = null;
+			}
+			containerMatchesGeneration = currentGeneration;
+		}
+		return containerMatches[containerType.ordinal()];
 	}
 
 	/**
@@ -882,26 +1008,40 @@ public class ItemRequirement extends AbstractRequirement
 			return new LinkedHashSet<>();
 		}
 
-		Set<TrackedContainers> containersWithItem = new LinkedHashSet<>();
+		// Ensures the matches are up to date before re-using the containers derived from them
+		getContainerMatches(TrackedContainers.EQUIPPED);
+		if (containersWithItem != null && containersWithItemQuantity == quantity)
+		{
+			return containersWithItem;
+		}
+
+		Set<TrackedContainers> foundContainers = new LinkedHashSet<>();
 		int totalFoundAcrossContainers = 0;
 
 		// This relies on the order in the enum to determine the priority of container checks.
 		for (ItemAndLastUpdated container : QuestContainerManager.getOrderedListOfContainers())
 		{
-			int totalFoundInCurrentContainer = checkTotalMatchesInContainers(container);
+			int totalFoundInCurrentContainer = getContainerMatches(container.getContainerType());
 			if (totalFoundInCurrentContainer > 0)
 			{
 				totalFoundAcrossContainers += totalFoundInCurrentContainer;
-				containersWithItem.add(container.getContainerType());
+				foundContainers.add(container.getContainerType());
 				if (totalFoundAcrossContainers >= quantity)
 				{
-					return containersWithItem;
+					break;
 				}
 			}
 		}
 
-		// Not enough items found across containers; return an empty set.
-		return new LinkedHashSet<>();
+		// Not enough items found across containers; use an empty set.
+		if (totalFoundAcrossContainers < quantity)
+		{
+			foundContainers.clear();
+		}
+
+		containersWithItem = Collections.unmodifiableSet(foundContainers);
+		containersWithItemQuantity = quantity;
+		return containersWithItem;
 	}
 
 	/**
@@ -957,21 +1097,36 @@ public class ItemRequirement extends AbstractRequirement
 			return true;
 		}
 
-		List<ItemAndLastUpdated> containers = new ArrayList<>();
-		containers.add(QuestContainerManager.getEquippedData());
-
+		int matchesFound = getContainerMatches(TrackedContainers.EQUIPPED);
 		if (!equip)
 		{
-			containers.add(QuestContainerManager.getInventoryData());
+			matchesFound += getContainerMatches(TrackedContainers.INVENTORY);
 		}
 		if (shouldCheckBank)
 		{
-			containers.add(QuestContainerManager.getBankData());
-			containers.add(QuestContainerManager.getPotionData());
-			containers.add(QuestContainerManager.getGroupStorageData());
+			matchesFound += getContainerMatches(TrackedContainers.BANK)
+				+ getContainerMatches(TrackedContainers.POTION_STORAGE)
+				+ getContainerMatches(TrackedContainers.GROUP_STORAGE);
 		}
 
-		return checkContainers(containers.toArray(new ItemAndLastUpdated[0]));
+		return matchesFound >= quantity;
+	}
+
+	/**
+	 * Item requirements depend on the quantity of their items in the tracked containers, as well as anything read by
+	 * their additional options.
+	 *
+	 * @return the {@link RequirementInputs} for this requirement
+	 */
+	@Override
+	public RequirementInputs getInputs()
+	{
+		RequirementInputs inputs = RequirementInputs.items(getAllIds());
+		if (additionalOptions != null)
+		{
+			inputs = inputs.and(additionalOptions.getInputs());
+		}
+		return inputs;
 	}
 
 	/**
@@ -982,13 +1137,24 @@ public class ItemRequirement extends AbstractRequirement
 	 */
 	private int getMaxMatchingItems(@NonNull Item[] items)
 	{
-		List<Item> allItems = new ArrayList<>(List.of(items));
+		ItemCountMap itemCounts = new ItemCountMap();
+		itemCounts.rebuild(items);
+		return getMaxMatchingItems(itemCounts);
+	}
 
+	/**
+	 * Determines the maximum number of matching items from the given item counts.
+	 *
+	 * @param itemCounts the {@link ItemCountMap} of a container to evaluate
+	 * @return the total count of matching items found
+	 */
+	private int getMaxMatchingItems(@NonNull ItemCountMap itemCounts)
+	{
 		int foundQuantity = 0;
 		List<Integer> ids = getAllIds();
 		for (int alternate : ids)
 		{
-			foundQuantity += getNumberOfItemFound(alternate, allItems);
+			foundQuantity += isChargedItem ? itemCounts.getCharges(alternate) : itemCounts.getQuantity(alternate);
 		}
 
 		return foundQuantity;
@@ -1026,28 +1192,17 @@ public class ItemRequirement extends AbstractRequirement
 	 */
 	public int getNumMatches(List<Item> items, int itemID)
 	{
-		if (isChargedItem)
+		int itemCharges = isChargedItem ? ItemWithCharge.findCharges(itemID) : -1;
+		int total = 0;
+		for (Item item : items)
 		{
-			return items.stream()
-					.filter(Objects::nonNull)
-					.filter(i -> i.getId() == itemID)
-					.mapToInt(i -> {
-						ItemWithCharge itemWithCharge = ItemWithCharge.findItem(i.getId());
-						if (itemWithCharge != null)
-						{
-							return itemWithCharge.getCharges();
-						}
-						// Fall back to using the item's quantity
-						return i.getQuantity();
-					})
-					.sum();
+			if (item != null && item.getId() == itemID)
+			{
+				// Fall back to using the item's quantity if it has no charges
+				total += itemCharges != -1 ? itemCharges : item.getQuantity();
+			}
 		}
-
-		return items.stream()
-				.filter(Objects::nonNull)
-				.filter(i -> i.getId() == itemID)
-				.mapToInt(Item::getQuantity)
-				.sum();
+		return total;
 	}
 
 	/**
@@ -29,6 +29,7 @@ package com.questhelper.requirements.item;
 import com.questhelper.QuestHelperConfig;
 import com.questhelper.managers.ItemAndLastUpdated;
 import com.questhelper.questhelpers.QuestUtil;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.util.LogicType;
 import com.questhelper.util.Utils;
 import lombok.Getter;
@@ -161,12 +162,7 @@ public class ItemRequirements extends ItemRequirement
 	@Override
 	public boolean checkContainers(ItemAndLastUpdated... containers)
 	{
-		Predicate<ItemRequirement> predicate = r -> r.checkContainers(containers);
-		int successes = (int) itemRequirements.stream()
-				.filter(Objects::nonNull)
-				.filter(predicate)
-				.count();
-		return logicType.compare(successes, itemRequirements.size());
+		return checkAggregated(r -> r.checkContainers(containers));
 	}
 
 	/**
@@ -178,7 +174,32 @@ public class ItemRequirements extends ItemRequirement
 	@Override
 	public boolean check(Client client)
 	{
-		Predicate<ItemRequirement> predicate = r -> r.check(client);
+		return checkAggregated(r -> r.check(client));
+	}
+
+	/**
+	 * Combines the results of a check of each aggregated requirement using the {@link LogicType}.
+	 * AND and OR stop checking as soon as the result is known.
+	 *
+	 * @param predicate the check to run on each aggregated requirement
+	 * @return the combined result
+	 */
+	private boolean checkAggregated(Predicate<ItemRequirement> predicate)
+	{
+		if (logicType == LogicType.AND || logicType == LogicType.OR)
+		{
+			boolean stopOn = logicType == LogicType.OR;
+			for (ItemRequirement itemRequirement : itemRequirements)
+			{
+				boolean passed = itemRequirement != null && predicate.test(itemRequirement);
+				if (passed == stopOn)
+				{
+					return stopOn;
+				}
+			}
+			return !stopOn;
+		}
+
 		int successes = (int) itemRequirements.stream()
 				.filter(Objects::nonNull)
 				.filter(predicate)
@@ -186,6 +207,17 @@ public class ItemRequirements extends ItemRequirement
 		return logicType.compare(successes, itemRequirements.size());
 	}
 
+	/**
+	 * The inputs of a group of item requirements are those of all the aggregated requirements.
+	 *
+	 * @return the combined {@link RequirementInputs} of the aggregated requirements
+	 */
+	@Override
+	public RequirementInputs getInputs()
+	{
+		return RequirementInputs.combine(itemRequirements);
+	}
+
 	/**
 	 * Determines the display color for this item requirement based on the client's progress.
 	 * <p>
@@ -361,6 +393,19 @@ public class ItemRequirements extends ItemRequirement
 				.collect(QuestUtil.collectToArrayList());
 	}
 
+	@Override
+	public boolean containsId(int itemId)
+	{
+		for (ItemRequirement itemRequirement : itemRequirements)
+		{
+			if (itemRequirement.containsId(itemId))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Marks all aggregated item requirements as equipped and returns a new instance with the equipped flag set.
 	 *
@@ -26,6 +26,8 @@ package com.questhelper.requirements.item;
 
 import com.questhelper.QuestHelperConfig;
 import com.questhelper.collections.KeyringCollection;
+import com.questhelper.managers.RequirementCheckCache;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.runelite.RuneliteRequirement;
 import lombok.Getter;
 import net.runelite.api.Client;
@@ -107,6 +109,13 @@ public class KeyringRequirement extends ItemRequirement
 		return super.check(client);
 	}
 
+	@Override
+	public RequirementInputs getInputs()
+	{
+		// The key ring state is stored in config
+		return RequirementInputs.UNKNOWN;
+	}
+
 	public boolean hasKeyOnKeyRing()
 	{
 		return runeliteRequirement.check();
@@ -120,7 +129,7 @@ public class KeyringRequirement extends ItemRequirement
 			return keyring.getColor(client, config);
 		}
 
-		return this.check(client) ? config.passColour() : config.failColour();
+		return RequirementCheckCache.check(client, this) ? config.passColour() : config.failColour();
 	}
 
 	protected String getTooltipFromEnumSet(Set<TrackedContainers> containers)
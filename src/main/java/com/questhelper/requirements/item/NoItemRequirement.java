@@ -27,6 +27,8 @@
 package com.questhelper.requirements.item;
 
 import com.questhelper.QuestHelperConfig;
+import com.questhelper.managers.RequirementCheckCache;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.util.ItemSlots;
 import net.runelite.api.Client;
 
@@ -59,10 +61,16 @@ public class NoItemRequirement extends ItemRequirement
 		return slot.checkInventory(client, Objects::isNull);
 	}
 
+	@Override
+	public RequirementInputs getInputs()
+	{
+		return RequirementInputs.of(RequirementInputs.Type.ITEM_CONTAINERS);
+	}
+
 	@Override
 	public Color getColor(Client client, QuestHelperConfig config)
 	{
-		return check(client) ? config.passColour() : config.failColour();
+		return RequirementCheckCache.check(client, this) ? config.passColour() : config.failColour();
 	}
 
 	@Nonnull
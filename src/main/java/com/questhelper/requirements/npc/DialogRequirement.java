@@ -24,6 +24,7 @@
  */
 package com.questhelper.requirements.npc;
 
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.SimpleRequirement;
 import lombok.Setter;
 import net.runelite.api.ChatMessageType;
@@ -75,6 +76,29 @@ public class DialogRequirement extends SimpleRequirement
 		return hasSeenDialog;
 	}
 
+	@Override
+	public RequirementInputs getInputs()
+	{
+		return RequirementInputs.of(RequirementInputs.Type.CHAT);
+	}
+
+	/**
+	 * @return the text which, when contained in a dialog message, can change the state of this requirement
+	 */
+	public List<String> getTriggerMessages()
+	{
+		return text;
+	}
+
+	/**
+	 * @return true if dialog messages not containing any of the {@link #getTriggerMessages()} can currently change
+	 * the state of this requirement
+	 */
+	public boolean needsAllMessages()
+	{
+		return hasSeenDialog && mustBeActive;
+	}
+
 	public void validateCondition(ChatMessage chatMessage)
 	{
 		if (chatMessage.getType() != ChatMessageType.DIALOG) return;
@@ -26,8 +26,10 @@
  */
 package com.questhelper.requirements.npc;
 
+import com.questhelper.managers.NpcTracker;
 import com.questhelper.requirements.AbstractRequirement;
 import com.questhelper.requirements.zone.Zone;
+import lombok.Getter;
 import lombok.Setter;
 import net.runelite.api.Client;
 import net.runelite.api.NPC;
@@ -40,6 +42,7 @@ import java.util.stream.Collectors;
 
 public class NpcRequirement extends AbstractRequirement
 {
+	@Getter
 	private final int npcID;
 	private final String npcName;
 
@@ -131,8 +134,7 @@ public class NpcRequirement extends AbstractRequirement
 	@Override
 	public boolean check(Client client)
 	{
-		List<NPC> found = client.getTopLevelWorldView().npcs().stream()
-			.filter(npc -> npc.getId() == npcID)
+		List<NPC> found = NpcTracker.getNpcs(npcID).stream()
 			.filter(npc -> npcName == null || (npc.getName() != null && npc.getName().equals(npcName)))
 			.collect(Collectors.toList());
 
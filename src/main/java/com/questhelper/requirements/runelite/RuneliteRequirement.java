@@ -25,8 +25,10 @@
 package com.questhelper.requirements.runelite;
 
 import com.questhelper.QuestHelperConfig;
+import com.questhelper.managers.RuneliteConfigCache;
 import com.questhelper.requirements.AbstractRequirement;
 import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.RequirementInputs;
 import lombok.Getter;
 import net.runelite.api.Client;
 import net.runelite.client.config.ConfigManager;
@@ -113,6 +115,12 @@ public class RuneliteRequirement extends AbstractRequirement
 		return check();
 	}
 
+	@Override
+	public RequirementInputs getInputs()
+	{
+		return RequirementInputs.of(RequirementInputs.Type.CONFIG);
+	}
+
 	public boolean check()
 	{
 		String value = getConfigValue();
@@ -153,24 +161,23 @@ public class RuneliteRequirement extends AbstractRequirement
 
 	public String getConfigValue()
 	{
-		String value = configManager.getRSProfileConfiguration(CONFIG_GROUP, runeliteIdentifier);
+		String value = RuneliteConfigCache.get(configManager, runeliteIdentifier);
 		if (initValue != null && value == null)
 		{
 			setConfigValue(initValue);
 			return initValue;
 		}
-		return configManager.getRSProfileConfiguration(CONFIG_GROUP, runeliteIdentifier);
+		return value;
 	}
 
 	public void setConfigValue(String obj)
 	{
-		if (configManager.getRSProfileKey() == null) return;
-		configManager.setRSProfileConfiguration(CONFIG_GROUP, runeliteIdentifier, obj);
+		RuneliteConfigCache.set(configManager, runeliteIdentifier, obj);
 	}
 
 	public boolean configExists()
 	{
-		return configManager.getRSProfileConfiguration(CONFIG_GROUP, runeliteIdentifier) != null;
+		return RuneliteConfigCache.get(configManager, runeliteIdentifier) != null;
 	}
 
 	public void initWithValue(String value)
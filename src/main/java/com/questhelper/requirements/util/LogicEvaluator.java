@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.requirements.util;
+
+import com.questhelper.managers.RequirementCheckCache;
+import com.questhelper.requirements.ComplexRequirement;
+import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.conditional.ConditionForStep;
+import net.runelite.api.Client;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Evaluates a group of {@link Requirement}s combined by a {@link LogicType} or an {@link Operation}.
+ * <p>
+ * Evaluation stops as soon as the result is known, and the requirements are evaluated in order of how long they
+ * have taken to check, cheapest first. Requirements which latch once passed, such as {@link ConditionForStep}s
+ * which only need to pass once, are always evaluated first so that they still latch if the rest are skipped.
+ */
+public class LogicEvaluator
+{
+	// How often to time each requirement's check and re-order them
+	private static final int SAMPLE_INTERVAL = 16;
+
+	private static final int UNDECIDED = -1;
+	private static final int FAILED = 0;
+	private static final int PASSED = 1;
+
+	private static final Comparator<Node> EVALUATION_ORDER = Comparator.comparing((Node node) -> !node.latching)
+		.thenComparingLong(node -> node.cost);
+
+	private final Requirement[] requirements;
+
+	private volatile Node[] order;
+
+	private int evaluations = 0;
+
+	public LogicEvaluator(List<? extends Requirement> requirements)
+	{
+		this.requirements = requirements.toArray(new Requirement[0]);
+		this.order = new Node[this.requirements.length];
+		for (int i = 0; i < this.requirements.length; i++)
+		{
+			order[i] = new Node(this.requirements[i]);
+		}
+		order = sort(order);
+	}
+
+	/**
+	 * @param requirements the requirements to compare with
+	 * @return true if this evaluator was built from the same requirements, in the same order
+	 */
+	public boolean isFor(List<? extends Requirement> requirements)
+	{
+		if (requirements.size() != this.requirements.length)
+		{
+			return false;
+		}
+
+		for (int i = 0; i < this.requirements.length; i++)
+		{
+			if (requirements.get(i) != this.requirements[i])
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param client the client to check with
+	 * @param logicType how the requirements are combined
+	 * @return true if the requirements pass when combined with the logicType
+	 */
+	public boolean test(Client client, LogicType logicType)
+	{
+		if (logicType == null)
+		{
+			return false;
+		}
+		return evaluate(client, logicType, null, 0);
+	}
+
+	/**
+	 * @param client the client to check with
+	 * @param operation the operation to compare the number of passing requirements with the quantity
+	 * @param quantity the quantity of requirements to compare against
+	 * @return true if the number of passing requirements satisfies the operation
+	 */
+	public boolean test(Client client, Operation operation, int quantity)
+	{
+		return evaluate(client, null, operation, quantity);
+	}
+
+	private boolean evaluate(Client client, LogicType logicType, Operation operation, int quantity)
+	{
+		Node[] nodes = order;
+		boolean sample = evaluations++ % SAMPLE_INTERVAL == 0;
+
+		int total = nodes.length;
+		int passed = 0;
+		int remaining = total;
+		int decision = decide(logicType, operation, quantity, total, passed, remaining);
+
+		for (Node node : nodes)
+		{
+			// Latching requirements are sorted first, so once decided the rest can be skipped
+			if (decision != UNDECIDED && !node.latching)
+			{
+				break;
+			}
+
+			long startTime = sample ? System.nanoTime() : 0;
+			// A null requirement has always been considered as passing
+			boolean nodePassed = node.requirement == null || RequirementCheckCache.check(client, node.requirement);
+			if (sample)
+			{
+				node.cost = (node.cost + (System.nanoTime() - startTime)) / 2;
+			}
+
+			remaining--;
+			if (nodePassed)
+			{
+				passed++;
+			}
+
+			if (decision == UNDECIDED)
+			{
+				decision = decide(logicType, operation, quantity, total, passed, remaining);
+			}
+		}
+
+		if (sample)
+		{
+			order = sort(nodes);
+		}
+
+		return decision == PASSED;
+	}
+
+	/**
+	 * Work out whether the result is already known, given how many requirements have passed so far and how many
+	 * are yet to be checked.
+	 */
+	private static int decide(LogicType logicType, Operation operation, int quantity, int total, int passed, int remaining)
+	{
+		int maxPassed = passed + remaining;
+		boolean result = result(logicType, operation, quantity, total, passed);
+		if (result(logicType, operation, quantity, total, maxPassed) != result)
+		{
+			return UNDECIDED;
+		}
+
+		// All results only change either side of a single threshold, so only the values around it need checking
+		int threshold = operation != null ? quantity : threshold(logicType, total);
+		for (int i = Math.max(passed, threshold - 1); i <= Math.min(maxPassed, threshold + 1); i++)
+		{
+			if (result(logicType, operation, quantity, total, i) != result)
+			{
+				return UNDECIDED;
+			}
+		}
+
+		return result ? PASSED : FAILED;
+	}
+
+	private static boolean result(LogicType logicType, Operation operation, int quantity, int total, int passed)
+	{
+		if (operation != null)
+		{
+			return operation.check(passed, quantity);
+		}
+
+		switch (logicType)
+		{
+			case AND:
+				return passed == total;
+			case OR:
+				return passed > 0;
+			case NAND:
+				return passed < total;
+			case NOR:
+				return passed == 0;
+			case XOR:
+				return passed == 1;
+			default:
+				return false;
+		}
+	}
+
+	private static int threshold(LogicType logicType, int total)
+	{
+		switch (logicType)
+		{
+			case AND:
+			case NAND:
+				return total;
+			case XOR:
+				return 1;
+			default:
+				return 0;
+		}
+	}
+
+	private static Node[] sort(Node[] nodes)
+	{
+		Node[] sorted = Arrays.copyOf(nodes, nodes.length);
+		Arrays.sort(sorted, EVALUATION_ORDER);
+		return sorted;
+	}
+
+	/**
+	 * @param requirement the requirement to check
+	 * @return true if the requirement, or any requirement within it, can stay passed once it has passed
+	 */
+	private static boolean isLatching(Requirement requirement)
+	{
+		if (requirement instanceof ConditionForStep)
+		{
+			ConditionForStep condition = (ConditionForStep) requirement;
+			return condition.isOnlyNeedToPassOnce() || condition.getConditions().stream().anyMatch(LogicEvaluator::isLatching);
+		}
+		else if (requirement instanceof ComplexRequirement)
+		{
+			return Arrays.stream(((ComplexRequirement) requirement).getRequirements()).anyMatch(LogicEvaluator::isLatching);
+		}
+		return false;
+	}
+
+	private static class Node
+	{
+		private final Requirement requirement;
+		private final boolean latching;
+		// Average time taken to check the requirement, in nanoseconds
+		private long cost;
+
+		private Node(Requirement requirement)
+		{
+			this.requirement = requirement;
+			this.latching = isLatching(requirement);
+		}
+	}
+}
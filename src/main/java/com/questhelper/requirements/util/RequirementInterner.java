@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.requirements.util;
+
+import com.questhelper.requirements.ComplexRequirement;
+import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.conditional.Conditions;
+import lombok.Getter;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Folds structurally equal {@link Requirement}s into a single shared instance, using
+ * {@link Requirement#getStructuralKey()}.
+ * <p>
+ * The children of {@link Conditions} and {@link ComplexRequirement}s are replaced with their shared instances, so
+ * that a requirement used in many places is only stored and evaluated once.
+ */
+public class RequirementInterner
+{
+	private final Map<Object, Requirement> sharedRequirements = new HashMap<>();
+
+	/**
+	 * The number of requirements which have been replaced by an equal shared requirement.
+	 */
+	@Getter
+	private int deduplicatedCount = 0;
+
+	/**
+	 * Get the shared instance of a requirement, first sharing any requirements within it.
+	 *
+	 * @param requirement the requirement to share
+	 * @return an equal shared requirement, or the requirement itself if it can't be shared
+	 */
+	public Requirement intern(Requirement requirement)
+	{
+		if (requirement == null)
+		{
+			return null;
+		}
+
+		internChildren(requirement);
+
+		Object key = requirement.getStructuralKey();
+		if (key == null)
+		{
+			return requirement;
+		}
+
+		Requirement sharedRequirement = sharedRequirements.putIfAbsent(key, requirement);
+		if (sharedRequirement == null)
+		{
+			return requirement;
+		}
+
+		if (sharedRequirement != requirement)
+		{
+			deduplicatedCount++;
+		}
+		return sharedRequirement;
+	}
+
+	private void internChildren(Requirement requirement)
+	{
+		if (requirement instanceof Conditions)
+		{
+			((Conditions) requirement).getConditions().replaceAll(this::intern);
+		}
+		else if (requirement instanceof ComplexRequirement)
+		{
+			Requirement[] requirements = ((ComplexRequirement) requirement).getRequirements();
+			for (int i = 0; i < requirements.length; i++)
+			{
+				requirements[i] = intern(requirements[i]);
+			}
+		}
+	}
+
+	/**
+	 * @param requirements the requirements to get the keys of
+	 * @return the structural keys of the requirements, or null if any of them can't be shared
+	 */
+	@Nullable
+	public static List<Object> getStructuralKeys(Collection<? extends Requirement> requirements)
+	{
+		List<Object> keys = new ArrayList<>(requirements.size());
+		for (Requirement requirement : requirements)
+		{
+			Object key = requirement == null ? null : requirement.getStructuralKey();
+			if (key == null)
+			{
+				return null;
+			}
+			keys.add(key);
+		}
+		return keys;
+	}
+}
@@ -25,6 +25,7 @@
 package com.questhelper.requirements.var;
 
 import com.questhelper.requirements.AbstractRequirement;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.util.Operation;
 import com.questhelper.util.Utils;
 import lombok.Getter;
@@ -33,6 +34,7 @@ import net.runelite.api.Client;
 import net.runelite.api.Varbits;
 
 import javax.annotation.Nonnull;
+import java.util.Arrays;
 import java.util.Locale;
 
 /**
@@ -94,6 +96,27 @@ public class VarComparisonRequirement extends AbstractRequirement
         }
     }
 
+    @Override
+    public RequirementInputs getInputs()
+    {
+        return inputsFor(v1Type, v1Id).and(inputsFor(v2Type, v2Id));
+    }
+
+    @Override
+    public Object getStructuralKey()
+    {
+        if (!canShareStructure())
+        {
+            return null;
+        }
+        return Arrays.asList(getClass(), v1Type, v1Id, v2Type, v2Id, operation, displayText);
+    }
+
+    private RequirementInputs inputsFor(VarType varType, int id)
+    {
+        return varType == VarType.VARBIT ? RequirementInputs.varbits(id) : RequirementInputs.varplayers(id);
+    }
+
     @Nonnull
     @Override
     public String getDisplayText()
@@ -28,6 +28,7 @@
 package com.questhelper.requirements.var;
 
 import com.questhelper.requirements.AbstractRequirement;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.util.Operation;
 import com.questhelper.util.Utils;
 import lombok.Getter;
@@ -38,6 +39,7 @@ import net.runelite.api.Varbits;
 
 import javax.annotation.Nonnull;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Locale;
 
 /**
@@ -174,6 +176,22 @@ public class VarbitRequirement extends AbstractRequirement
 		}
 	}
 
+	@Override
+	public RequirementInputs getInputs()
+	{
+		return RequirementInputs.varbits(varbitID);
+	}
+
+	@Override
+	public Object getStructuralKey()
+	{
+		if (!canShareStructure())
+		{
+			return null;
+		}
+		return Arrays.asList(getClass(), varbitID, requiredValue, operation, displayText, bitIsSet, bitPosition);
+	}
+
 	@Nonnull
 	@Override
 	public String getDisplayText()
@@ -27,11 +27,13 @@
 package com.questhelper.requirements.var;
 
 import com.questhelper.requirements.AbstractRequirement;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.util.Operation;
 import net.runelite.api.Client;
 
 import javax.annotation.Nonnull;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
@@ -167,6 +169,22 @@ public class VarplayerRequirement extends AbstractRequirement
 		return values.stream().anyMatch(value -> operation.check(varpValue, value));
 	}
 
+	@Override
+	public RequirementInputs getInputs()
+	{
+		return RequirementInputs.varplayers(varPlayerID);
+	}
+
+	@Override
+	public Object getStructuralKey()
+	{
+		if (!canShareStructure())
+		{
+			return null;
+		}
+		return Arrays.asList(getClass(), varPlayerID, values, operation, displayText, bitPosition, bitIsSet, bitShiftRight);
+	}
+
 	@Nonnull
 	@Override
 	public String getDisplayText()
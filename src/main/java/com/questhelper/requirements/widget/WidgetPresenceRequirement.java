@@ -45,6 +45,7 @@ public class WidgetPresenceRequirement extends SimpleRequirement
 	@Getter
 	protected final int groupId;
 
+	@Getter
 	protected final int childId;
 	protected int childChildId = -1;
 
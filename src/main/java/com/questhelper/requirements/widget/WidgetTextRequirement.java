@@ -47,6 +47,7 @@ public class WidgetTextRequirement extends SimpleRequirement
 	@Getter
 	private final int groupId;
 
+	@Getter
 	private final int childId;
 
 	private List<String> text;
@@ -28,6 +28,9 @@ package com.questhelper.requirements.zone;
 import lombok.Getter;
 import net.runelite.api.coords.WorldPoint;
 
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
 import static net.runelite.api.Constants.REGION_SIZE;
 
 public class Zone
@@ -40,7 +43,9 @@ public class Zone
 	private final int minY;
 	@Getter
 	private final int maxY;
+	@Getter
 	private int minPlane = 0;
+	@Getter
 	private int maxPlane = 2;
 
 	//The first plane of the "Overworld"
@@ -91,6 +96,19 @@ public class Zone
 		maxPlane = plane;
 	}
 
+	/**
+	 * @return a key which is equal for zones covering the same area, or null if the zone can't be compared
+	 */
+	@Nullable
+	public Object getStructuralKey()
+	{
+		if (getClass() != Zone.class)
+		{
+			return null;
+		}
+		return Arrays.asList(minX, maxX, minY, maxY, minPlane, maxPlane);
+	}
+
 	public boolean contains(WorldPoint worldPoint)
 	{
 		return minX <= worldPoint.getX()
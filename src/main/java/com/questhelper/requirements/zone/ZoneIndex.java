@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.requirements.zone;
+
+import net.runelite.api.Client;
+import net.runelite.api.Player;
+import net.runelite.api.coords.WorldPoint;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A spatial index of the {@link Zone}s used by {@link ZoneRequirement}s, so the zones containing the player can be
+ * found in one lookup rather than by testing every zone.
+ * <p>
+ * Zones are bucketed by each region and plane they overlap, with the zones in each bucket sorted by their minimum x.
+ * Zones which aren't a plain rectangle, or which cover too many regions, are instead always tested. The player's
+ * real world point and the zones containing it are calculated once per game tick.
+ */
+public class ZoneIndex
+{
+	private static final int MAX_PLANE = 3;
+
+	// Zones covering more region planes than this are always tested rather than being bucketed
+	private static final int MAX_BUCKETS_PER_ZONE = 256;
+
+	private static final List<Zone> zones = new ArrayList<>();
+	private static final Map<Zone, Integer> zoneIds = new IdentityHashMap<>();
+
+	// Region id and plane -> ids of the zones overlapping it, sorted by the zone's minimum x
+	private static final Map<Integer, List<Integer>> buckets = new HashMap<>();
+	private static final List<Integer> unbucketedZoneIds = new ArrayList<>();
+
+	// Incremented whenever the index is cleared, at which point previously returned zone ids are invalid
+	private static int generation = 0;
+
+	private static int lastTick = -1;
+	private static boolean containingPlayerDirty = true;
+	private static final BitSet zonesContainingPlayer = new BitSet();
+	private static boolean hasPlayerLocation = false;
+
+	public static int getGeneration()
+	{
+		return generation;
+	}
+
+	/**
+	 * Remove all zones from the index, such as when a new helper is started.
+	 */
+	public static void clear()
+	{
+		zones.clear();
+		zoneIds.clear();
+		buckets.clear();
+		unbucketedZoneIds.clear();
+		generation++;
+		containingPlayerDirty = true;
+	}
+
+	/**
+	 * Add zones to the index, if they have not already been added.
+	 *
+	 * @param zonesToAdd the zones to add
+	 * @return the id of each zone, valid until the {@link #getGeneration()} changes
+	 */
+	public static int[] register(List<Zone> zonesToAdd)
+	{
+		int[] ids = new int[zonesToAdd.size()];
+		for (int i = 0; i < zonesToAdd.size(); i++)
+		{
+			ids[i] = register(zonesToAdd.get(i));
+		}
+		return ids;
+	}
+
+	private static int register(Zone zone)
+	{
+		Integer existingId = zoneIds.get(zone);
+		if (existingId != null)
+		{
+			return existingId;
+		}
+
+		int id = zones.size();
+		zones.add(zone);
+		zoneIds.put(zone, id);
+		containingPlayerDirty = true;
+
+		if (zone.getClass() != Zone.class)
+		{
+			unbucketedZoneIds.add(id);
+			return id;
+		}
+
+		int minRegionX = zone.getMinX() >> 6;
+		int maxRegionX = zone.getMaxX() >> 6;
+		int minRegionY = zone.getMinY() >> 6;
+		int maxRegionY = zone.getMaxY() >> 6;
+		int minPlane = Math.max(zone.getMinPlane(), 0);
+		int maxPlane = Math.min(zone.getMaxPlane(), MAX_PLANE);
+
+		long bucketCount = (long) (maxRegionX - minRegionX + 1) * (maxRegionY - minRegionY + 1) * (maxPlane - minPlane + 1);
+		if (bucketCount > MAX_BUCKETS_PER_ZONE)
+		{
+			unbucketedZoneIds.add(id);
+			return id;
+		}
+
+		for (int regionX = minRegionX; regionX <= maxRegionX; regionX++)
+		{
+			for (int regionY = minRegionY; regionY <= maxRegionY; regionY++)
+			{
+				for (int plane = minPlane; plane <= maxPlane; plane++)
+				{
+					List<Integer> bucket = buckets.computeIfAbsent(getBucketKey(regionX, regionY, plane), k -> new ArrayList<>());
+					bucket.add(findInsertionIndex(bucket, zone.getMinX()), id);
+				}
+			}
+		}
+		return id;
+	}
+
+	private static int findInsertionIndex(List<Integer> bucket, int minX)
+	{
+		int low = 0;
+		int high = bucket.size();
+		while (low < high)
+		{
+			int mid = (low + high) >>> 1;
+			if (zones.get(bucket.get(mid)).getMinX() <= minX)
+			{
+				low = mid + 1;
+			}
+			else
+			{
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private static int getBucketKey(int regionX, int regionY, int plane)
+	{
+		return (((regionX << 8) | regionY) << 2) | plane;
+	}
+
+	/**
+	 * Must be called on the client thread.
+	 *
+	 * @param client the client to get the player's location from
+	 * @return the ids of all registered zones containing the player, or null if there is no player
+	 */
+	@Nullable
+	public static BitSet getZonesContainingPlayer(Client client)
+	{
+		int tick = client.getTickCount();
+		if (tick != lastTick || containingPlayerDirty)
+		{
+			lastTick = tick;
+			containingPlayerDirty = false;
+			updateZonesContainingPlayer(client);
+		}
+		return hasPlayerLocation ? zonesContainingPlayer : null;
+	}
+
+	private static void updateZonesContainingPlayer(Client client)
+	{
+		zonesContainingPlayer.clear();
+
+		Player player = client.getLocalPlayer();
+		WorldPoint location = player == null ? null : WorldPoint.fromLocalInstance(client, player.getLocalLocation());
+		hasPlayerLocation = location != null;
+		if (location == null)
+		{
+			return;
+		}
+
+		int x = location.getX();
+		List<Integer> bucket = buckets.get(getBucketKey(x >> 6, location.getY() >> 6, location.getPlane()));
+		if (bucket != null)
+		{
+			for (int id : bucket)
+			{
+				Zone zone = zones.get(id);
+				if (zone.getMinX() > x)
+				{
+					break;
+				}
+				if (zone.contains(location))
+				{
+					zonesContainingPlayer.set(id);
+				}
+			}
+		}
+
+		for (int id : unbucketedZoneIds)
+		{
+			if (zones.get(id).contains(location))
+			{
+				zonesContainingPlayer.set(id);
+			}
+		}
+	}
+}
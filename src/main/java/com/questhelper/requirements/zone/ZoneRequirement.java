@@ -29,13 +29,16 @@ package com.questhelper.requirements.zone;
 
 import com.questhelper.questhelpers.QuestUtil;
 import com.questhelper.requirements.AbstractRequirement;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.util.Utils;
 import lombok.Getter;
 import net.runelite.api.Client;
-import net.runelite.api.Player;
 import net.runelite.api.coords.WorldPoint;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -46,6 +49,10 @@ public class ZoneRequirement extends AbstractRequirement
 	private final boolean checkInZone;
 	private String displayText;
 
+	// The ids of the zones in the ZoneIndex, and the index generation they were registered at
+	private int[] zoneIds;
+	private int zoneIdsGeneration;
+
 	/**
 	 * Check if the player is either in the specified zone.
 	 *
@@ -103,14 +110,56 @@ public class ZoneRequirement extends AbstractRequirement
 	@Override
 	public boolean check(Client client)
 	{
-		Player player = client.getLocalPlayer();
-		if (player != null && zones != null)
+		BitSet zonesContainingPlayer = ZoneIndex.getZonesContainingPlayer(client);
+		if (zonesContainingPlayer == null || zones == null)
+		{
+			return false;
+		}
+
+		if (zoneIds == null || zoneIdsGeneration != ZoneIndex.getGeneration() || zoneIds.length != zones.size())
+		{
+			zoneIds = ZoneIndex.register(zones);
+			zoneIdsGeneration = ZoneIndex.getGeneration();
+			zonesContainingPlayer = ZoneIndex.getZonesContainingPlayer(client);
+		}
+
+		boolean inZone = false;
+		for (int zoneId : zoneIds)
+		{
+			if (zonesContainingPlayer.get(zoneId))
+			{
+				inZone = true;
+				break;
+			}
+		}
+		return inZone == checkInZone;
+	}
+
+	@Override
+	public RequirementInputs getInputs()
+	{
+		return RequirementInputs.of(RequirementInputs.Type.PLAYER_LOCATION);
+	}
+
+	@Override
+	public Object getStructuralKey()
+	{
+		if (!canShareStructure() || zones == null)
+		{
+			return null;
+		}
+
+		List<Object> zoneKeys = new ArrayList<>();
+		for (Zone zone : zones)
 		{
-			WorldPoint location = WorldPoint.fromLocalInstance(client, player.getLocalLocation());
-			boolean inZone = zones.stream().anyMatch(z -> z.contains(location));
-			return inZone == checkInZone;
+			Object zoneKey = zone.getStructuralKey();
+			if (zoneKey == null)
+			{
+				return null;
+			}
+			zoneKeys.add(zoneKey);
 		}
-		return false;
+		return Arrays.asList(getClass(), zoneKeys, checkInZone, displayText);
 	}
 
 	@Nonnull
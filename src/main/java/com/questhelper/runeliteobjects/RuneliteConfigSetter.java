@@ -25,6 +25,7 @@
 package com.questhelper.runeliteobjects;
 
 import com.questhelper.QuestHelperConfig;
+import com.questhelper.managers.RuneliteConfigCache;
 import lombok.Getter;
 import net.runelite.client.config.ConfigManager;
 
@@ -49,17 +50,17 @@ public class RuneliteConfigSetter
 
 	public String getConfigValue()
 	{
-		return configManager.getRSProfileConfiguration(CONFIG_GROUP, runeliteIdentifier);
+		return RuneliteConfigCache.get(configManager, runeliteIdentifier);
 	}
 
 	public void setConfigValue()
 	{
-		configManager.setRSProfileConfiguration(CONFIG_GROUP, runeliteIdentifier, setValue);
+		RuneliteConfigCache.set(configManager, runeliteIdentifier, setValue);
 	}
 
 	public boolean configExists()
 	{
-		return configManager.getRSProfileConfiguration(CONFIG_GROUP, runeliteIdentifier) != null;
+		return RuneliteConfigCache.get(configManager, runeliteIdentifier) != null;
 	}
 }
 
@@ -27,6 +27,7 @@ package com.questhelper.runeliteobjects.extendedruneliteobjects;
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.questhelper.managers.NpcTracker;
 import com.questhelper.steps.widget.WidgetDetails;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Menu;
@@ -170,13 +171,10 @@ public class RuneliteObjectManager
 		String groupID = "global";
 		ReplacedNpc extendedRuneliteObject = new ReplacedNpc(client, clientThread, wp, model, npcIDToReplace);
 		// Should this be here or a separate 'activate' step?
-		for (NPC clientNpc : client.getTopLevelWorldView().npcs())
+		for (NPC clientNpc : NpcTracker.getNpcs(npcIDToReplace))
 		{
-			if (clientNpc.getId() == npcIDToReplace)
-			{
-				extendedRuneliteObject.setNpc(clientNpc);
-				break;
-			}
+			extendedRuneliteObject.setNpc(clientNpc);
+			break;
 		}
 
 		runeliteObjectGroups.computeIfAbsent(groupID, (existingVal) -> new ExtendedRuneliteObjects(groupID));
@@ -189,13 +187,10 @@ public class RuneliteObjectManager
 	{
 		ReplacedNpc extendedRuneliteObject = new ReplacedNpc(client, clientThread, wp, model, npcIDToReplace);
 		// Should this be here or a separate 'activate' step?
-		for (NPC clientNpc : client.getTopLevelWorldView().npcs())
+		for (NPC clientNpc : NpcTracker.getNpcs(npcIDToReplace))
 		{
-			if (clientNpc.getId() == npcIDToReplace)
-			{
-				extendedRuneliteObject.setNpc(clientNpc);
-				break;
-			}
+			extendedRuneliteObject.setNpc(clientNpc);
+			break;
 		}
 
 		runeliteObjectGroups.computeIfAbsent(groupID, (existingVal) -> new ExtendedRuneliteObjects(groupID));
@@ -701,21 +696,17 @@ public class RuneliteObjectManager
 
 	private boolean isNpcOnTile(ExtendedRuneliteObject extendedRuneliteObject)
 	{
-		for (NPC npc : client.getTopLevelWorldView().npcs())
+		WorldPoint rlObjWp = WorldPoint.fromLocalInstance(client, extendedRuneliteObject.getRuneliteObject().getLocation());
+		for (NPC npc : NpcTracker.getNpcsOnTile(client, rlObjWp))
 		{
-			WorldPoint wpNpc = npc.getWorldLocation();
-			WorldPoint rlObjWp = WorldPoint.fromLocalInstance(client, extendedRuneliteObject.getRuneliteObject().getLocation());
-			if (wpNpc != null && wpNpc.distanceTo(rlObjWp) == 0)
+			if (extendedRuneliteObject instanceof ReplacedNpc)
 			{
-				if (extendedRuneliteObject instanceof ReplacedNpc)
+				if (npc == ((ReplacedNpc) extendedRuneliteObject).getNpc())
 				{
-					if (npc == ((ReplacedNpc) extendedRuneliteObject).getNpc())
-					{
-						continue;
-					}
+					continue;
 				}
-				return true;
 			}
+			return true;
 		}
 
 		return false;
@@ -26,15 +26,19 @@ package com.questhelper.steps;
 
 import com.google.inject.Inject;
 import com.questhelper.QuestHelperPlugin;
+import com.questhelper.managers.ChatMessageMatcher;
+import com.questhelper.managers.RequirementCheckCache;
+import com.questhelper.managers.RequirementInputTracker;
 import com.questhelper.questhelpers.QuestHelper;
 import com.questhelper.requirements.ChatMessageRequirement;
 import com.questhelper.requirements.MultiChatMessageRequirement;
 import com.questhelper.requirements.Requirement;
+import com.questhelper.requirements.RequirementInputs;
 import com.questhelper.requirements.conditional.InitializableRequirement;
-import com.questhelper.requirements.conditional.NpcCondition;
 import com.questhelper.requirements.item.ItemRequirement;
 import com.questhelper.requirements.npc.DialogRequirement;
 import com.questhelper.requirements.runelite.RuneliteRequirement;
+import com.questhelper.requirements.util.RequirementInterner;
 import com.questhelper.steps.widget.AbstractWidgetHighlight;
 import lombok.NonNull;
 import lombok.Setter;
@@ -64,7 +68,6 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 
 	protected final LinkedHashMap<Requirement, QuestStep> steps;
 	protected final List<ChatMessageRequirement> chatConditions = new ArrayList<>();
-	protected final List<NpcCondition> npcConditions = new ArrayList<>();
 	protected final List<DialogRequirement> dialogConditions = new ArrayList<>();
 	protected final List<RuneliteRequirement> runeliteConditions = new ArrayList<>();
 
@@ -72,6 +75,9 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 
 	protected List<Requirement> requirements = new ArrayList<>();
 
+	// The last result of each condition, re-used until one of the condition's inputs changes
+	private final Map<Requirement, CachedCheck> cachedChecks = new IdentityHashMap<>();
+
 	public ConditionalStep(QuestHelper questHelper, QuestStep step, Requirement... requirements)
 	{
 		super(questHelper);
@@ -101,11 +107,31 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 		checkForConditions(requirement);
 	}
 
+	/**
+	 * Replace the conditions of this step with equal shared conditions, keeping their order.
+	 *
+	 * @param interner the interner holding the shared conditions
+	 */
+	public void shareConditions(RequirementInterner interner)
+	{
+		List<Map.Entry<Requirement, QuestStep>> entries = new ArrayList<>(steps.entrySet());
+		steps.clear();
+		for (Map.Entry<Requirement, QuestStep> entry : entries)
+		{
+			Requirement condition = interner.intern(entry.getKey());
+			// Equal conditions within this step still need to lead to their own steps
+			if (steps.containsKey(condition))
+			{
+				condition = entry.getKey();
+			}
+			steps.put(condition, entry.getValue());
+		}
+	}
+
 	private void checkForConditions(Requirement requirement)
 	{
 		checkForChatConditions(requirement);
 		checkForDialogConditions(requirement);
-		checkForNpcConditions(requirement);
 		checkForRuneliteConditions(requirement);
 
 		if ((requirement instanceof InitializableRequirement))
@@ -148,24 +174,6 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 		}
 	}
 
-	public void checkForNpcConditions(Requirement requirement)
-	{
-		if (!(requirement instanceof InitializableRequirement))
-		{
-			return;
-		}
-
-		InitializableRequirement condition = (InitializableRequirement) requirement;
-
-		if (condition.getConditions().isEmpty())
-		{
-			if (condition instanceof NpcCondition && !npcConditions.contains(condition))
-			{
-				npcConditions.add((NpcCondition) condition);
-			}
-		}
-	}
-
 	public void checkForRuneliteConditions(Requirement requirement)
 	{
 		if (requirement instanceof RuneliteRequirement && !runeliteConditions.contains(requirement))
@@ -181,6 +189,12 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 		steps.keySet().stream()
 			.filter(InitializableRequirement.class::isInstance)
 			.forEach(req -> ((InitializableRequirement) req).initialize(client));
+		cachedChecks.clear();
+		if (!started)
+		{
+			ChatMessageMatcher.register(chatConditions);
+			ChatMessageMatcher.register(dialogConditions);
+		}
 		updateSteps();
 		started = true;
 	}
@@ -188,9 +202,15 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 	@Override
 	public void shutDown()
 	{
+		if (started)
+		{
+			ChatMessageMatcher.unregister(chatConditions);
+			ChatMessageMatcher.unregister(dialogConditions);
+		}
 		started = false;
 		shutDownStep();
 		currentStep = null;
+		cachedChecks.clear();
 	}
 
 	@Subscribe
@@ -240,48 +260,16 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 
 	public void handleChatMessage(ChatMessage chatMessage, boolean parentDefinedRecursion)
 	{
-		chatConditions.forEach(requirement -> requirement.validateCondition(client, chatMessage));
-		dialogConditions.forEach(requirement -> requirement.validateCondition(chatMessage));
+		chatConditions.stream()
+			.filter(requirement -> ChatMessageMatcher.shouldValidate(requirement, chatMessage))
+			.forEach(requirement -> requirement.validateCondition(client, chatMessage));
+		dialogConditions.stream()
+			.filter(requirement -> ChatMessageMatcher.shouldValidate(requirement, chatMessage))
+			.forEach(requirement -> requirement.validateCondition(chatMessage));
 
 		handleChildRequirementValidation(step -> step.handleChatMessage(chatMessage, parentDefinedRecursion), parentDefinedRecursion);
 	}
 
-	@Subscribe
-	public void onNpcSpawned(NpcSpawned event)
-	{
-		handleNpcSpawned(event, checkAllChildStepsOnListenerCall);
-	}
-
-	public void handleNpcSpawned(NpcSpawned npcSpawned, boolean parentDefinedRecursion)
-	{
-		npcConditions.forEach(npc -> npc.checkNpcSpawned(npcSpawned.getNpc()));
-		handleChildRequirementValidation(step -> step.handleNpcSpawned(npcSpawned, parentDefinedRecursion), parentDefinedRecursion);
-	}
-
-	@Subscribe
-	public void onNpcDespawned(NpcDespawned event)
-	{
-		handleNpcDespawned(event, checkAllChildStepsOnListenerCall);
-	}
-
-	public void handleNpcDespawned(NpcDespawned npcDespawned, boolean parentDefinedRecursion)
-	{
-		npcConditions.forEach(npc -> npc.checkNpcDespawned(npcDespawned.getNpc()));
-		handleChildRequirementValidation(step -> step.handleNpcDespawned(npcDespawned, parentDefinedRecursion), parentDefinedRecursion);
-	}
-
-	@Subscribe
-	public void onNpcChanged(NpcChanged npcCompositionChanged)
-	{
-		handleNpcChanged(npcCompositionChanged, checkAllChildStepsOnListenerCall);
-	}
-
-	public void handleNpcChanged(NpcChanged npcChanged, boolean parentDefinedRecursion)
-	{
-		npcConditions.forEach(npc -> npc.checkNpcChanged(npcChanged));
-		handleChildRequirementValidation(step -> step.handleNpcChanged(npcChanged, parentDefinedRecursion), parentDefinedRecursion);
-	}
-
 	private void handleChildRequirementValidation(Consumer<ConditionalStep> stepAction, boolean parentDefinedRecursion)
 	{
 		if (checkAllChildStepsOnListenerCall || parentDefinedRecursion)
@@ -300,7 +288,7 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 		for (Requirement conditions : steps.keySet())
 		{
 			boolean stepIsLocked = steps.get(conditions).isLocked();
-			if (conditions != null && conditions.check(client) && !stepIsLocked)
+			if (conditions != null && checkCondition(conditions) && !stepIsLocked)
 			{
 				startUpStep(steps.get(conditions));
 				return;
@@ -326,6 +314,36 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 		}
 	}
 
+	/**
+	 * Check a condition of this step, only re-checking it if any of its {@link RequirementInputs} have changed
+	 * since it was last checked.
+	 *
+	 * @param condition the condition to check
+	 * @return the result of the condition's check
+	 */
+	protected boolean checkCondition(Requirement condition)
+	{
+		if (!RequirementCheckCache.isEnabled())
+		{
+			return condition.check(client);
+		}
+
+		CachedCheck cachedCheck = cachedChecks.get(condition);
+		if (cachedCheck == null)
+		{
+			cachedCheck = new CachedCheck(condition.getInputs());
+			RequirementInputTracker.registerInputs(client, cachedCheck.inputs);
+			cachedChecks.put(condition, cachedCheck);
+		}
+		if (!cachedCheck.hasChecked || RequirementInputTracker.hasChangedSince(cachedCheck.inputs, cachedCheck.checkedGeneration))
+		{
+			cachedCheck.checkedGeneration = RequirementInputTracker.getGeneration();
+			cachedCheck.result = RequirementCheckCache.check(client, condition);
+			cachedCheck.hasChecked = true;
+		}
+		return cachedCheck.result;
+	}
+
 	protected void startUpStep(QuestStep step)
 	{
 		if (step.equals(currentStep)) return;
@@ -471,4 +489,17 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 			.forEach(conditions -> newStep.addStep(conditions, steps.get(conditions)));
 		return newStep;
 	}
+
+	private static class CachedCheck
+	{
+		private final RequirementInputs inputs;
+		private boolean hasChecked;
+		private long checkedGeneration;
+		private boolean result;
+
+		private CachedCheck(RequirementInputs inputs)
+		{
+			this.inputs = inputs;
+		}
+	}
 }
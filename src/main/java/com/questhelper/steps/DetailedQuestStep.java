@@ -29,6 +29,8 @@ import com.google.common.collect.Multimap;
 import com.google.inject.Inject;
 import com.questhelper.QuestHelperPlugin;
 import com.questhelper.bank.QuestBank;
+import com.questhelper.managers.GroundItemIndex;
+import com.questhelper.managers.RequirementCheckCache;
 import com.questhelper.questhelpers.QuestHelper;
 import com.questhelper.requirements.Requirement;
 import com.questhelper.requirements.item.ItemRequirement;
@@ -592,52 +594,35 @@ public class DetailedQuestStep extends QuestStep
 		{
 			return;
 		}
-		Tile[][] squareOfTiles = client.getScene().getTiles()[client.getPlane()];
 
-		// Reduce the two-dimensional array into a single list for processing.
-		List<Tile> tiles = Stream.of(squareOfTiles)
-			.flatMap(Arrays::stream)
-			.filter(Objects::nonNull)
-			.collect(Collectors.toList());
-		for (Tile tile : tiles)
+		Set<Integer> ids = new HashSet<>();
+		for (Requirement requirement : requirements)
+		{
+			if (isItemRequirement(requirement) && requirementIsItem((ItemRequirement) requirement))
+			{
+				ids.addAll(((ItemRequirement) requirement).getAllIds());
+			}
+		}
+
+		int plane = client.getPlane();
+		for (int id : ids)
 		{
-			List<TileItem> items = tile.getGroundItems();
-			if (items != null)
+			// A tile appears once for each stack of the item on it, so each stack is highlighted as before
+			for (Tile tile : GroundItemIndex.getTiles(id))
 			{
-				for (TileItem item : items)
+				if (tile.getPlane() == plane)
 				{
-					if (item == null)
-					{
-						continue;
-					}
-					for (Requirement requirement : requirements)
-					{
-						if (isValidRequirementForTileItem(requirement, item))
-						{
-							tileHighlights.get(tile).add(item.getId());
-							break;
-						}
-					}
+					tileHighlights.get(tile).add(id);
 				}
 			}
 		}
 	}
 
-	private boolean isValidRequirementForTileItem(Requirement requirement, TileItem item)
-	{
-		return isItemRequirement(requirement) && requirementMatchesTileItem((ItemRequirement) requirement, item);
-	}
-
 	private boolean isItemRequirement(Requirement requirement)
 	{
 		return requirement != null && requirement.getClass() == ItemRequirement.class;
 	}
 
-	private boolean requirementMatchesTileItem(ItemRequirement requirement, TileItem item)
-	{
-		return requirementIsItem(requirement) && requirementContainsID(requirement, item.getId());
-	}
-
 	private boolean requirementIsItem(ItemRequirement requirement)
 	{
 		return requirement.isActualItem();
@@ -645,7 +630,7 @@ public class DetailedQuestStep extends QuestStep
 
 	private boolean requirementContainsID(ItemRequirement requirement, int id)
 	{
-		return requirement.getAllIds().contains(id);
+		return requirement.containsId(id);
 	}
 
 	private boolean requirementContainsID(ItemRequirement requirement, Collection<Integer> ids)
@@ -739,7 +724,7 @@ public class DetailedQuestStep extends QuestStep
 			&& requirementIsItem((ItemRequirement) requirement)
 			&& requirementContainsID((ItemRequirement) requirement, ids)
 			&& ((ItemRequirement) requirement).shouldRenderItemHighlights(client)
-			&& ((!considerBankForItemHighlight && !requirement.check(client)) ||
+			&& ((!considerBankForItemHighlight && !RequirementCheckCache.check(client, requirement)) ||
 			(considerBankForItemHighlight &&
 				!((ItemRequirement) requirement).checkWithAllContainers()));
 	}
@@ -821,7 +806,7 @@ public class DetailedQuestStep extends QuestStep
 		MenuAction type = entry.getType();
 		return requirements.stream().anyMatch((item) ->  item instanceof ItemRequirement &&
 			type == MenuAction.GROUND_ITEM_THIRD_OPTION &&
-			((ItemRequirement) item).getAllIds().contains(itemID) &&
+			((ItemRequirement) item).containsId(itemID) &&
 			!((ItemRequirement) item).checkWithAllContainers() &&
 			option.equals("Take"));
 	}
@@ -27,6 +27,7 @@ package com.questhelper.steps;
 
 import com.questhelper.QuestHelperConfig;
 import com.questhelper.QuestHelperPlugin;
+import com.questhelper.managers.NpcTracker;
 import com.questhelper.questhelpers.QuestHelper;
 import com.questhelper.requirements.Requirement;
 import com.questhelper.steps.overlay.DirectionArrow;
@@ -188,9 +189,12 @@ public class NpcStep extends DetailedQuestStep
 
 	public void scanForNpcs()
 	{
-		for (NPC npc : client.getTopLevelWorldView().npcs())
+		for (int id : allIds())
 		{
-			addNpcToListGivenMatchingID(npc, this::npcPassesChecks, npcs);
+			for (NPC npc : NpcTracker.getNpcs(id))
+			{
+				addNpcToListGivenMatchingID(npc, this::npcPassesChecks, npcs);
+			}
 		}
 	}
 
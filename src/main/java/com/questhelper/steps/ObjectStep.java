@@ -26,6 +26,7 @@ package com.questhelper.steps;
 
 import com.questhelper.QuestHelperConfig;
 import com.questhelper.QuestHelperPlugin;
+import com.questhelper.managers.SceneObjectIndex;
 import com.questhelper.questhelpers.QuestHelper;
 import com.questhelper.requirements.Requirement;
 import com.questhelper.requirements.zone.Zone;
@@ -139,22 +140,22 @@ public class ObjectStep extends DetailedQuestStep
 	{
 		// TODO: This needs to be tested in Shadow of the Storm's Demon Room
 		objects.clear();
-		Tile[][] tiles = client.getScene().getTiles()[client.getPlane()];
-		for (Tile[] lineOfTiles : tiles)
+		int plane = client.getPlane();
+		for (int id : allIds())
 		{
-			for (Tile tile : lineOfTiles)
+			loadObjectsOnPlane(SceneObjectIndex.getObjects(id), plane);
+		}
+		// Objects which currently appear as one of the ids are indexed under their own id
+		loadObjectsOnPlane(SceneObjectIndex.getTransformingObjects(), plane);
+	}
+
+	private void loadObjectsOnPlane(Collection<TileObject> tileObjects, int plane)
+	{
+		for (TileObject object : tileObjects)
+		{
+			if (object.getPlane() == plane)
 			{
-				if (tile != null)
-				{
-					for (GameObject object : tile.getGameObjects())
-					{
-						handleObjects(object);
-					}
-
-					handleObjects(tile.getDecorativeObject());
-					handleObjects(tile.getGroundObject());
-					handleObjects(tile.getWallObject());
-				}
+				handleObjects(object);
 			}
 		}
 	}
@@ -184,17 +185,12 @@ public class ObjectStep extends DetailedQuestStep
 	{
 		List<LocalPoint> localPoints = QuestPerspective.getInstanceLocalPointFromReal(client, wp);
 
+		int plane = client.getTopLevelWorldView().getPlane();
 		for (LocalPoint localPoint : localPoints)
 		{
-			Tile[][][] tiles = client.getTopLevelWorldView().getScene().getTiles();
-
-			Tile tile = tiles[client.getTopLevelWorldView().getPlane()][localPoint.getSceneX()][localPoint.getSceneY()];
-			if (tile != null)
+			for (TileObject object : SceneObjectIndex.getObjectsOnTile(plane, localPoint.getSceneX(), localPoint.getSceneY()))
 			{
-				Arrays.stream(tile.getGameObjects()).forEach(this::handleObjects);
-				handleObjects(tile.getDecorativeObject());
-				handleObjects(tile.getGroundObject());
-				handleObjects(tile.getWallObject());
+				handleObjects(object);
 			}
 		}
 	}
@@ -229,6 +225,14 @@ public class ObjectStep extends DetailedQuestStep
 		return this;
 	}
 
+	public List<Integer> allIds()
+	{
+		List<Integer> ids = new ArrayList<>();
+		ids.add(objectID);
+		ids.addAll(alternateObjectIDs);
+		return ids;
+	}
+
 	@Subscribe
 	public void onGameObjectSpawned(GameObjectSpawned event)
 	{
@@ -28,6 +28,8 @@ import com.google.inject.Binder;
 import com.google.inject.Inject;
 import com.google.inject.Module;
 import com.questhelper.QuestHelperPlugin;
+import com.questhelper.managers.RequirementCheckCache;
+import com.questhelper.managers.RequirementInputTracker;
 import com.questhelper.questhelpers.QuestHelper;
 import com.questhelper.questhelpers.QuestUtil;
 import com.questhelper.requirements.Requirement;
@@ -226,7 +228,8 @@ public abstract class QuestStep implements Module
 	@Subscribe
 	public void onVarbitChanged(VarbitChanged event)
 	{
-		if (!allowInCutscene)
+		if (!allowInCutscene
+			&& RequirementInputTracker.isVarbitChange(client, VarbitID.CUTSCENE_STATUS, event.getVarpId(), event.getVarbitId()))
 		{
 			int newCutsceneStatus = client.getVarbitValue(VarbitID.CUTSCENE_STATUS);
 			if (currentCutsceneStatus == 0 && newCutsceneStatus == 1)
@@ -518,7 +521,7 @@ public abstract class QuestStep implements Module
 
 	public boolean isLocked()
 	{
-		boolean autoLocked = lockingCondition != null && lockingCondition.check(client);
+		boolean autoLocked = lockingCondition != null && RequirementCheckCache.check(client, lockingCondition);
 		unlockable = !autoLocked;
 		if (autoLocked)
 		{
@@ -655,7 +658,7 @@ public abstract class QuestStep implements Module
 
 	private boolean isValidRenderRequirementInInventory(ItemRequirement requirement, Widget item)
 	{
-		return requirement.shouldHighlightInInventory(client) && requirement.getAllIds().contains(item.getItemId());
+		return requirement.shouldHighlightInInventory(client) && requirement.containsId(item.getItemId());
 	}
 
 	protected void renderHoveredItemTooltip(String tooltipText)
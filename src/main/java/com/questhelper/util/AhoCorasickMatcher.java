@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Finds which of a set of patterns are contained in a piece of text, using the Aho-Corasick algorithm.
+ * <p>
+ * The text is scanned once, however many patterns there are.
+ */
+public class AhoCorasickMatcher
+{
+	private static final int ROOT = 0;
+	private static final int NONE = -1;
+
+	private final int patternCount;
+
+	// Transitions out of each node, with the characters sorted so they can be binary searched
+	private final char[][] transitionChars;
+	private final int[][] transitionTargets;
+
+	private final int[] failureLinks;
+
+	// The patterns ending at each node, and the next node on the failure chain which has patterns ending at it
+	private final int[][] outputs;
+	private final int[] outputLinks;
+
+	/**
+	 * @param patterns the patterns to match. The index of each pattern is used to identify it when matching.
+	 */
+	public AhoCorasickMatcher(List<String> patterns)
+	{
+		this.patternCount = patterns.size();
+
+		List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+		List<List<Integer>> trieOutputs = new ArrayList<>();
+		trie.add(new TreeMap<>());
+		trieOutputs.add(new ArrayList<>());
+
+		for (int i = 0; i < patterns.size(); i++)
+		{
+			int node = ROOT;
+			for (char c : patterns.get(i).toCharArray())
+			{
+				Integer next = trie.get(node).get(c);
+				if (next == null)
+				{
+					next = trie.size();
+					trie.add(new TreeMap<>());
+					trieOutputs.add(new ArrayList<>());
+					trie.get(node).put(c, next);
+				}
+				node = next;
+			}
+			trieOutputs.get(node).add(i);
+		}
+
+		int nodeCount = trie.size();
+		transitionChars = new char[nodeCount][];
+		transitionTargets = new int[nodeCount][];
+		outputs = new int[nodeCount][];
+		for (int node = 0; node < nodeCount; node++)
+		{
+			TreeMap<Character, Integer> transitions = trie.get(node);
+			transitionChars[node] = new char[transitions.size()];
+			transitionTargets[node] = new int[transitions.size()];
+			int i = 0;
+			for (Map.Entry<Character, Integer> transition : transitions.entrySet())
+			{
+				transitionChars[node][i] = transition.getKey();
+				transitionTargets[node][i] = transition.getValue();
+				i++;
+			}
+			outputs[node] = trieOutputs.get(node).stream().mapToInt(Integer::intValue).toArray();
+		}
+
+		failureLinks = new int[nodeCount];
+		outputLinks = new int[nodeCount];
+		outputLinks[ROOT] = NONE;
+
+		// Breadth-first, so the failure links of shorter prefixes are known first
+		Queue<Integer> queue = new ArrayDeque<>();
+		queue.add(ROOT);
+		while (!queue.isEmpty())
+		{
+			int node = queue.remove();
+			for (int i = 0; i < transitionChars[node].length; i++)
+			{
+				char c = transitionChars[node][i];
+				int child = transitionTargets[node][i];
+
+				int failure = ROOT;
+				if (node != ROOT)
+				{
+					failure = failureLinks[node];
+					while (failure != ROOT && next(failure, c) == NONE)
+					{
+						failure = failureLinks[failure];
+					}
+					int failureNext = next(failure, c);
+					failure = failureNext == NONE ? ROOT : failureNext;
+				}
+				failureLinks[child] = failure;
+				outputLinks[child] = outputs[failure].length > 0 ? failure : outputLinks[failure];
+				queue.add(child);
+			}
+		}
+	}
+
+	/**
+	 * @param text the text to search
+	 * @return the indexes of all patterns which the text contains
+	 */
+	public BitSet match(String text)
+	{
+		BitSet matches = new BitSet(patternCount);
+
+		// Empty patterns are contained in all text
+		for (int pattern : outputs[ROOT])
+		{
+			matches.set(pattern);
+		}
+
+		int node = ROOT;
+		for (int i = 0; i < text.length(); i++)
+		{
+			char c = text.charAt(i);
+			int next = next(node, c);
+			while (next == NONE && node != ROOT)
+			{
+				node = failureLinks[node];
+				next = next(node, c);
+			}
+			node = next == NONE ? ROOT : next;
+
+			for (int output = outputs[node].length > 0 ? node : outputLinks[node]; output > ROOT; output = outputLinks[output])
+			{
+				for (int pattern : outputs[output])
+				{
+					matches.set(pattern);
+				}
+			}
+		}
+
+		return matches;
+	}
+
+	private int next(int node, char c)
+	{
+		char[] chars = transitionChars[node];
+		int low = 0;
+		int high = chars.length - 1;
+		while (low <= high)
+		{
+			int mid = (low + high) >>> 1;
+			if (chars[mid] < c)
+			{
+				low = mid + 1;
+			}
+			else if (chars[mid] > c)
+			{
+				high = mid - 1;
+			}
+			else
+			{
+				return transitionTargets[node][mid];
+			}
+		}
+		return NONE;
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.util;
+
+import com.questhelper.collections.ItemWithCharge;
+import net.runelite.api.Item;
+
+import java.util.Arrays;
+
+/**
+ * The total quantity of each item id held in an item container, stored in a primitive open-addressing hash table.
+ * <p>
+ * A parallel table holds the total charges for each item id, where each item of an {@link ItemWithCharge} counts as
+ * its number of charges, and any other item counts as its quantity.
+ */
+public class ItemCountMap
+{
+	private static final int EMPTY = Integer.MIN_VALUE;
+	private static final int MIN_CAPACITY = 16;
+
+	private int[] keys = new int[0];
+	private int[] quantities = new int[0];
+	private int[] charges = new int[0];
+	private int mask = -1;
+
+	/**
+	 * Replace the contents of the map with the items given, re-using the existing tables if they are large enough.
+	 *
+	 * @param items the items to count. Null entries are ignored.
+	 */
+	public void rebuild(Item[] items)
+	{
+		clear(items.length);
+		for (Item item : items)
+		{
+			if (item != null)
+			{
+				add(item.getId(), item.getQuantity());
+			}
+		}
+	}
+
+	/**
+	 * Empty the map, ensuring there is room for the given number of distinct items.
+	 *
+	 * @param expectedItems the most distinct items expected to be added
+	 */
+	public void clear(int expectedItems)
+	{
+		// At most half full, even if every item is distinct
+		int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedItems * 2) - 1) << 1;
+		if (capacity > keys.length)
+		{
+			keys = new int[capacity];
+			quantities = new int[capacity];
+			charges = new int[capacity];
+			mask = capacity - 1;
+		}
+		else
+		{
+			Arrays.fill(quantities, 0);
+			Arrays.fill(charges, 0);
+		}
+		Arrays.fill(keys, EMPTY);
+	}
+
+	/**
+	 * Add a stack of items to the map. The map must have been cleared with room for it.
+	 *
+	 * @param itemId the id of the item
+	 * @param quantity the quantity of the item
+	 */
+	public void add(int itemId, int quantity)
+	{
+		int slot = findSlot(itemId);
+		keys[slot] = itemId;
+		quantities[slot] += quantity;
+
+		int itemCharges = ItemWithCharge.findCharges(itemId);
+		charges[slot] += itemCharges != -1 ? itemCharges : quantity;
+	}
+
+	/**
+	 * @param itemId the item id to look up
+	 * @return the total quantity of the item
+	 */
+	public int getQuantity(int itemId)
+	{
+		if (mask < 0)
+		{
+			return 0;
+		}
+		int slot = findSlot(itemId);
+		return keys[slot] == EMPTY ? 0 : quantities[slot];
+	}
+
+	/**
+	 * @param itemId the item id to look up
+	 * @return the total charges of the item, or its quantity if it is not an {@link ItemWithCharge}
+	 */
+	public int getCharges(int itemId)
+	{
+		if (mask < 0)
+		{
+			return 0;
+		}
+		int slot = findSlot(itemId);
+		return keys[slot] == EMPTY ? 0 : charges[slot];
+	}
+
+	/**
+	 * Find the ids of the items which differ between this map and another, either in quantity or in charges.
+	 *
+	 * @param other the map to compare against
+	 * @return the distinct ids of items which changed
+	 */
+	public int[] getChangedItemIds(ItemCountMap other)
+	{
+		int[] changed = new int[8];
+		int changedCount = 0;
+
+		for (int slot = 0; slot < keys.length; slot++)
+		{
+			int id = keys[slot];
+			if (id != EMPTY && (quantities[slot] != other.getQuantity(id) || charges[slot] != other.getCharges(id)))
+			{
+				changed = append(changed, changedCount++, id);
+			}
+		}
+
+		for (int slot = 0; slot < other.keys.length; slot++)
+		{
+			int id = other.keys[slot];
+			if (id != EMPTY && !contains(id))
+			{
+				changed = append(changed, changedCount++, id);
+			}
+		}
+
+		return Arrays.copyOf(changed, changedCount);
+	}
+
+	private boolean contains(int itemId)
+	{
+		return mask >= 0 && keys[findSlot(itemId)] != EMPTY;
+	}
+
+	private static int[] append(int[] array, int index, int value)
+	{
+		if (index == array.length)
+		{
+			array = Arrays.copyOf(array, array.length * 2);
+		}
+		array[index] = value;
+		return array;
+	}
+
+	// Linear probe for the slot holding the id, or the empty slot it would be put in
+	private int findSlot(int itemId)
+	{
+		int slot = (itemId * 0x9E3779B9) >>> 16 & mask;
+		while (keys[slot] != EMPTY && keys[slot] != itemId)
+		{
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A frozen set of item ids, stored as a sorted array so that membership can be checked with a binary search and
+ * without boxing.
+ */
+public class ItemIdSet
+{
+	public static final ItemIdSet EMPTY = new ItemIdSet(new int[0]);
+
+	private final int[] sortedIds;
+
+	private ItemIdSet(int[] sortedIds)
+	{
+		this.sortedIds = sortedIds;
+	}
+
+	/**
+	 * @param itemIds the item ids to include. Null entries and duplicates are ignored.
+	 * @return a new {@link ItemIdSet} of the item ids
+	 */
+	public static ItemIdSet of(Collection<Integer> itemIds)
+	{
+		int[] ids = new int[itemIds.size()];
+		int size = 0;
+		for (Integer itemId : itemIds)
+		{
+			if (itemId != null)
+			{
+				ids[size++] = itemId;
+			}
+		}
+		Arrays.sort(ids, 0, size);
+
+		int distinct = 0;
+		for (int i = 0; i < size; i++)
+		{
+			if (distinct == 0 || ids[distinct - 1] != ids[i])
+			{
+				ids[distinct++] = ids[i];
+			}
+		}
+		return new ItemIdSet(distinct == ids.length ? ids : Arrays.copyOf(ids, distinct));
+	}
+
+	public boolean contains(int itemId)
+	{
+		return Arrays.binarySearch(sortedIds, itemId) >= 0;
+	}
+
+	public int size()
+	{
+		return sortedIds.length;
+	}
+}
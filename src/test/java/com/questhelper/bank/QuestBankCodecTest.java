@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.bank;
+
+import net.runelite.api.gameval.ItemID;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QuestBankCodecTest
+{
+	@Test
+	void roundTripsItemsInBankOrder()
+	{
+		int[] idAndQuantity = { ItemID.COINS, 2_147_000_000, ItemID.BRONZE_AXE, 1, ItemID.ABYSSAL_WHIP, 0, 0, 0 };
+
+		String encoded = QuestBankCodec.encode(idAndQuantity);
+
+		assertTrue(QuestBankCodec.isEncoded(encoded));
+		assertArrayEquals(idAndQuantity, QuestBankCodec.decode(encoded));
+	}
+
+	@Test
+	void decodesEmptyBank()
+	{
+		assertArrayEquals(new int[]{ 0, 0 }, QuestBankCodec.decode(QuestBankCodec.encode(new int[0])));
+		assertArrayEquals(new int[]{ 0, 0 }, QuestBankCodec.decode(QuestBankCodec.encode(new int[]{ 0, 0 })));
+	}
+
+	@Test
+	void recognisesLegacyJson()
+	{
+		assertFalse(QuestBankCodec.isEncoded("[995,100,0,0]"));
+		assertFalse(QuestBankCodec.isEncoded(null));
+	}
+
+	@Test
+	void rejectsTruncatedData()
+	{
+		String encoded = QuestBankCodec.encode(new int[]{ ItemID.COINS, 100, 0, 0 });
+		assertThrows(IllegalArgumentException.class, () -> QuestBankCodec.decode(encoded.substring(0, encoded.length() - 4)));
+	}
+}
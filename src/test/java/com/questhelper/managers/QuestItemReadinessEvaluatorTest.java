@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.managers;
+
+import com.questhelper.managers.QuestItemReadinessEvaluator.Readiness;
+import com.questhelper.questinfo.QuestHelperQuest;
+import com.questhelper.requirements.ManualRequirement;
+import com.questhelper.requirements.item.ItemRequirement;
+import net.runelite.api.Client;
+import net.runelite.api.Item;
+import net.runelite.api.gameval.ItemID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+public class QuestItemReadinessEvaluatorTest
+{
+	private final Client client = mock(Client.class);
+	private int tick;
+
+	@BeforeEach
+	void emptyContainers()
+	{
+		for (ItemAndLastUpdated container : QuestContainerManager.getOrderedListOfContainers())
+		{
+			container.update(++tick, new Item[0]);
+		}
+	}
+
+	@Test
+	void onlyQuestWithChangedItemChangesReadiness()
+	{
+		var evaluator = new QuestItemReadinessEvaluator();
+		evaluator.compile(Map.of(
+			QuestHelperQuest.COOKS_ASSISTANT, List.of(new ItemRequirement("Bronze axe", ItemID.BRONZE_AXE)),
+			QuestHelperQuest.SHEEP_SHEARER, List.of(new ItemRequirement("Bronze pickaxe", ItemID.BRONZE_PICKAXE))
+		));
+
+		QuestContainerManager.getInventoryData().update(++tick, new Item[]{ new Item(ItemID.BRONZE_AXE, 1), new Item(ItemID.BRONZE_PICKAXE, 1) });
+		var readiness = evaluator.evaluate(client);
+		assertEquals(Readiness.ON_PLAYER, readiness.get(QuestHelperQuest.COOKS_ASSISTANT));
+		assertEquals(Readiness.ON_PLAYER, readiness.get(QuestHelperQuest.SHEEP_SHEARER));
+
+		// Bank the axe
+		QuestContainerManager.getInventoryData().update(++tick, new Item[]{ new Item(ItemID.BRONZE_PICKAXE, 1) });
+		QuestContainerManager.getBankData().update(++tick, new Item[]{ new Item(ItemID.BRONZE_AXE, 1) });
+		readiness = evaluator.evaluate(client);
+		assertEquals(Readiness.IN_BANK, readiness.get(QuestHelperQuest.COOKS_ASSISTANT));
+		assertEquals(Readiness.ON_PLAYER, readiness.get(QuestHelperQuest.SHEEP_SHEARER));
+
+		// Drop the axe from the bank entirely
+		QuestContainerManager.getBankData().update(++tick, new Item[0]);
+		readiness = evaluator.evaluate(client);
+		assertEquals(Readiness.MISSING, readiness.get(QuestHelperQuest.COOKS_ASSISTANT));
+		assertEquals(Readiness.ON_PLAYER, readiness.get(QuestHelperQuest.SHEEP_SHEARER));
+	}
+
+	@Test
+	void requiresFullQuantityAcrossContainers()
+	{
+		var evaluator = new QuestItemReadinessEvaluator();
+		evaluator.compile(Map.of(
+			QuestHelperQuest.COOKS_ASSISTANT, List.of(new ItemRequirement("Coins", ItemID.COINS, 100))
+		));
+
+		QuestContainerManager.getInventoryData().update(++tick, new Item[]{ new Item(ItemID.COINS, 60) });
+		QuestContainerManager.getBankData().update(++tick, new Item[]{ new Item(ItemID.COINS, 40) });
+		assertEquals(Readiness.IN_BANK, evaluator.evaluate(client).get(QuestHelperQuest.COOKS_ASSISTANT));
+
+		QuestContainerManager.getBankData().update(++tick, new Item[]{ new Item(ItemID.COINS, 39) });
+		assertEquals(Readiness.MISSING, evaluator.evaluate(client).get(QuestHelperQuest.COOKS_ASSISTANT));
+	}
+
+	@Test
+	void passingAdditionalOptionsMeetsRequirement()
+	{
+		var alternative = new ManualRequirement();
+		var axe = new ItemRequirement("Bronze axe", ItemID.BRONZE_AXE);
+		axe.setAdditionalOptions(alternative);
+
+		var evaluator = new QuestItemReadinessEvaluator();
+		evaluator.compile(Map.of(
+			QuestHelperQuest.COOKS_ASSISTANT, List.of(axe)
+		));
+		assertEquals(Readiness.MISSING, evaluator.evaluate(client).get(QuestHelperQuest.COOKS_ASSISTANT));
+
+		alternative.setShouldPass(true);
+		assertEquals(Readiness.ON_PLAYER, evaluator.evaluate(client).get(QuestHelperQuest.COOKS_ASSISTANT));
+
+		alternative.setShouldPass(false);
+		QuestContainerManager.getBankData().update(++tick, new Item[]{ new Item(ItemID.BRONZE_AXE, 1) });
+		assertEquals(Readiness.IN_BANK, evaluator.evaluate(client).get(QuestHelperQuest.COOKS_ASSISTANT));
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.managers;
+
+import com.questhelper.requirements.item.TrackedContainers;
+import net.runelite.api.gameval.ItemID;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RequirementInputTrackerTest
+{
+	@Test
+	void onlyChangedItemsAreMarked()
+	{
+		long before = RequirementInputTracker.getGeneration();
+		RequirementInputTracker.markItemsChanged(new ContainerDelta(TrackedContainers.INVENTORY, new int[]{ ItemID.COINS }));
+
+		assertTrue(RequirementInputTracker.hasItemChangedSince(ItemID.COINS, before));
+		assertFalse(RequirementInputTracker.hasItemChangedSince(ItemID.BRONZE_AXE, before));
+	}
+
+	@Test
+	void otherChangesDoNotMarkItems()
+	{
+		RequirementInputTracker.markItemsChanged(new ContainerDelta(TrackedContainers.INVENTORY, new int[]{ ItemID.COINS }));
+		long before = RequirementInputTracker.getGeneration();
+		RequirementInputTracker.markVarChanged(1, -1);
+
+		assertFalse(RequirementInputTracker.hasAnyItemChangedSince(before));
+		assertFalse(RequirementInputTracker.hasItemChangedSince(ItemID.COINS, before));
+	}
+
+	@Test
+	void tracksItemIdsBeyondInitialTable()
+	{
+		int itemId = 100_000;
+		long before = RequirementInputTracker.getGeneration();
+		RequirementInputTracker.markItemsChanged(new ContainerDelta(TrackedContainers.INVENTORY, new int[]{ itemId }));
+
+		assertTrue(RequirementInputTracker.hasItemChangedSince(itemId, before));
+		assertFalse(RequirementInputTracker.hasItemChangedSince(itemId + 1, before));
+	}
+}
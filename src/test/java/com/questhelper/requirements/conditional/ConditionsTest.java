@@ -0,0 +1,96 @@
+package com.questhelper.requirements.conditional;
+
+import com.questhelper.requirements.ManualRequirement;
+import com.questhelper.requirements.util.LogicType;
+import com.questhelper.requirements.util.Operation;
+import net.runelite.api.Client;
+import org.junit.jupiter.api.Test;
+
+import static com.questhelper.requirements.util.LogicHelper.and;
+import static com.questhelper.requirements.util.LogicHelper.nand;
+import static com.questhelper.requirements.util.LogicHelper.nor;
+import static com.questhelper.requirements.util.LogicHelper.or;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class ConditionsTest
+{
+	private final Client client = mock(Client.class);
+
+	static class CountingRequirement extends ManualRequirement
+	{
+		int checks = 0;
+
+		CountingRequirement(boolean shouldPass)
+		{
+			setShouldPass(shouldPass);
+		}
+
+		@Override
+		public boolean check(Client client)
+		{
+			checks++;
+			return super.check(client);
+		}
+	}
+
+	@Test
+	void logicTypes()
+	{
+		var pass = new CountingRequirement(true);
+		var fail = new CountingRequirement(false);
+
+		assertTrue(and(pass, pass).check(client));
+		assertFalse(and(pass, fail).check(client));
+		assertTrue(or(fail, pass).check(client));
+		assertFalse(or(fail, fail).check(client));
+		assertTrue(nor(fail, fail).check(client));
+		assertFalse(nor(fail, pass).check(client));
+		assertTrue(nand(pass, fail).check(client));
+		assertFalse(nand(pass, pass).check(client));
+		assertTrue(new Conditions(LogicType.XOR, pass, fail).check(client));
+		assertFalse(new Conditions(LogicType.XOR, pass, pass).check(client));
+	}
+
+	@Test
+	void shortCircuits()
+	{
+		var fail = new CountingRequirement(false);
+		var other = new CountingRequirement(true);
+
+		assertFalse(and(fail, other).check(client));
+		assertEquals(1, fail.checks);
+		assertEquals(0, other.checks);
+	}
+
+	@Test
+	void operations()
+	{
+		var pass = new CountingRequirement(true);
+		var fail = new CountingRequirement(false);
+
+		assertTrue(new Conditions(Operation.GREATER_EQUAL, 2, pass, fail, pass).check(client));
+		assertFalse(new Conditions(Operation.GREATER_EQUAL, 3, pass, fail, pass).check(client));
+		assertTrue(new Conditions(Operation.EQUAL, 1, fail, pass, fail).check(client));
+		assertFalse(new Conditions(Operation.LESS, 1, fail, pass, fail).check(client));
+		assertTrue(new Conditions(Operation.NOT_EQUAL, 0, fail, fail, pass).check(client));
+	}
+
+	@Test
+	void latchesWhenOtherConditionsFail()
+	{
+		var blocker = new ManualRequirement();
+		var latchInput = new ManualRequirement();
+		var latch = new Conditions(true, LogicType.AND, latchInput);
+		var condition = and(blocker, latch);
+
+		// The latch is still evaluated even though the result is already known to be false
+		latchInput.setShouldPass(true);
+		assertFalse(condition.check(client));
+		assertTrue(latch.isHasPassed());
+
+		latchInput.setShouldPass(false);
+		blocker.setShouldPass(true);
+		assertTrue(condition.check(client));
+	}
+}
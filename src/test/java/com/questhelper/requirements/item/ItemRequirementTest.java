@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.requirements.item;
+
+import com.questhelper.managers.ItemAndLastUpdated;
+import net.runelite.api.Item;
+import net.runelite.api.gameval.ItemID;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ItemRequirementTest
+{
+	private ItemAndLastUpdated inventoryWith(Item... items)
+	{
+		ItemAndLastUpdated inventory = new ItemAndLastUpdated(TrackedContainers.INVENTORY);
+		inventory.update(1, items);
+		return inventory;
+	}
+
+	@Test
+	void recountsAfterIdChanges()
+	{
+		ItemAndLastUpdated inventory = inventoryWith(new Item(ItemID.BRONZE_AXE, 1), new Item(ItemID.COINS, 50));
+		ItemRequirement req = new ItemRequirement("Axe", ItemID.BRONZE_AXE);
+		assertEquals(1, req.checkTotalMatchesInContainers(inventory));
+
+		req.setId(ItemID.COINS);
+		assertEquals(50, req.checkTotalMatchesInContainers(inventory));
+
+		req.setId(ItemID.BRONZE_PICKAXE);
+		assertEquals(0, req.checkTotalMatchesInContainers(inventory));
+	}
+
+	@Test
+	void recountsAfterAlternatesAdded()
+	{
+		ItemAndLastUpdated inventory = inventoryWith(new Item(ItemID.BRONZE_AXE, 1), new Item(ItemID.BRONZE_PICKAXE, 1));
+		ItemRequirement req = new ItemRequirement("Axe", ItemID.BRONZE_AXE);
+		assertEquals(1, req.checkTotalMatchesInContainers(inventory));
+
+		req.addAlternates(ItemID.BRONZE_PICKAXE);
+		assertEquals(2, req.checkTotalMatchesInContainers(inventory));
+	}
+
+	@Test
+	void recountsAfterChargedItemChanges()
+	{
+		ItemAndLastUpdated inventory = inventoryWith(new Item(ItemID.BURNING_AMULET_3, 1));
+		ItemRequirement req = new ItemRequirement("Burning amulet", ItemID.BURNING_AMULET_3);
+		assertEquals(1, req.checkTotalMatchesInContainers(inventory));
+
+		req.setChargedItem(true);
+		assertEquals(3, req.checkTotalMatchesInContainers(inventory));
+	}
+}
@@ -0,0 +1,39 @@
+package com.questhelper.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AhoCorasickMatcherTest
+{
+	@Test
+	void matchesContainedPatterns()
+	{
+		var matcher = new AhoCorasickMatcher(List.of("he", "she", "his", "hers", "nothing"));
+
+		BitSet matches = matcher.match("ushers");
+		assertEquals(BitSet.valueOf(new long[]{ 0b1011 }), matches);
+	}
+
+	@Test
+	void matchesOverlappingAndRepeatedPatterns()
+	{
+		var matcher = new AhoCorasickMatcher(List.of("aab", "ab", "b", "ab"));
+
+		BitSet matches = matcher.match("xaaab");
+		assertEquals(BitSet.valueOf(new long[]{ 0b1111 }), matches);
+		assertEquals(new BitSet(), matcher.match("aa"));
+	}
+
+	@Test
+	void emptyPatternAlwaysMatches()
+	{
+		var matcher = new AhoCorasickMatcher(List.of("", "You open the chest."));
+
+		assertEquals(BitSet.valueOf(new long[]{ 0b01 }), matcher.match(""));
+		assertEquals(BitSet.valueOf(new long[]{ 0b11 }), matcher.match("<col=ff0000>You open the chest.</col>"));
+	}
+}
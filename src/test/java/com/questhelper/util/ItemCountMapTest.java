@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.questhelper.util;
+
+import net.runelite.api.Item;
+import net.runelite.api.gameval.ItemID;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ItemCountMapTest
+{
+	@Test
+	void sumsQuantitiesAcrossSlots()
+	{
+		var counts = new ItemCountMap();
+		counts.rebuild(new Item[]{ new Item(ItemID.COINS, 100), null, new Item(ItemID.BRONZE_AXE, 1), new Item(ItemID.COINS, 5) });
+
+		assertEquals(105, counts.getQuantity(ItemID.COINS));
+		assertEquals(1, counts.getQuantity(ItemID.BRONZE_AXE));
+		assertEquals(0, counts.getQuantity(ItemID.BRONZE_PICKAXE));
+	}
+
+	@Test
+	void countsChargesOfChargedItems()
+	{
+		var counts = new ItemCountMap();
+		counts.rebuild(new Item[]{ new Item(ItemID.BURNING_AMULET_3, 1), new Item(ItemID.BURNING_AMULET_3, 1), new Item(ItemID.COINS, 7) });
+
+		assertEquals(2, counts.getQuantity(ItemID.BURNING_AMULET_3));
+		assertEquals(6, counts.getCharges(ItemID.BURNING_AMULET_3));
+		assertEquals(7, counts.getCharges(ItemID.COINS));
+	}
+
+	@Test
+	void rebuildReplacesPreviousContents()
+	{
+		var counts = new ItemCountMap();
+		counts.rebuild(new Item[]{ new Item(ItemID.COINS, 100) });
+		counts.rebuild(new Item[]{ new Item(ItemID.BRONZE_AXE, 1) });
+
+		assertEquals(0, counts.getQuantity(ItemID.COINS));
+		assertEquals(1, counts.getQuantity(ItemID.BRONZE_AXE));
+		assertEquals(0, new ItemCountMap().getQuantity(ItemID.COINS));
+	}
+
+	@Test
+	void findsChangedItemIds()
+	{
+		var before = new ItemCountMap();
+		before.rebuild(new Item[]{ new Item(ItemID.COINS, 100), new Item(ItemID.BRONZE_AXE, 1), new Item(ItemID.BRONZE_PICKAXE, 1) });
+		var after = new ItemCountMap();
+		after.rebuild(new Item[]{ new Item(ItemID.COINS, 90), new Item(ItemID.BRONZE_PICKAXE, 1), new Item(ItemID.BURNING_AMULET_3, 1) });
+
+		int[] changed = before.getChangedItemIds(after);
+		Arrays.sort(changed);
+		int[] expected = { ItemID.COINS, ItemID.BRONZE_AXE, ItemID.BURNING_AMULET_3 };
+		Arrays.sort(expected);
+
+		assertArrayEquals(expected, changed);
+		assertEquals(0, after.getChangedItemIds(after).length);
+	}
+}